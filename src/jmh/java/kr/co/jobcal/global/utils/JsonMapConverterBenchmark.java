@@ -0,0 +1,54 @@
+package kr.co.jobcal.global.utils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonMapConverterBenchmark {
+
+    private JsonMapConverter converter;
+    private Map<String, Object> parsedData;
+    private String column;
+
+    @Setup
+    public void setUp() {
+        converter = new JsonMapConverter();
+        // 파서들이 parsed_data에 넣는 형태
+        parsedData = new LinkedHashMap<>();
+        parsedData.put("source", "wanted");
+        parsedData.put("employmentType", "regular");
+        parsedData.put("hireRounds", "서류 전형 → 1차 인터뷰 → 2차 인터뷰 → 처우 협의 → 최종 합격");
+        parsedData.put("confirmTime", "2025-01-10T09:00:00");
+        parsedData.put("responsibilities", "Spring Boot 기반 API 서버 설계 및 개발\n채용 공고 파서와 수집 파이프라인 운영");
+        parsedData.put("requirements", "Java 또는 Kotlin 3년 이상 실무 경험\nSpring, JPA 기반 서비스 운영 경험");
+        parsedData.put("preferences", "대용량 트래픽 처리 경험\nAWS 인프라 운영 경험");
+        parsedData.put("skills", List.of("Java", "Spring", "JPA", "MySQL", "AWS"));
+        column = converter.convertToDatabaseColumn(parsedData);
+    }
+
+    @Benchmark
+    public String toColumn() {
+        return converter.convertToDatabaseColumn(parsedData);
+    }
+
+    @Benchmark
+    public Map<String, Object> toAttribute() {
+        return converter.convertToEntityAttribute(column);
+    }
+
+    @Benchmark
+    public Map<String, Object> roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(parsedData));
+    }
+}
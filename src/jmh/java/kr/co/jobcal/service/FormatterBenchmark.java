@@ -0,0 +1,41 @@
+package kr.co.jobcal.service;
+
+import java.util.concurrent.TimeUnit;
+import kr.co.jobcal.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FormatterBenchmark {
+
+    private JobDescriptionFormatter jobDescriptionFormatter;
+    private AiDescriptionFormatter aiDescriptionFormatter;
+    private String description;
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        jobDescriptionFormatter = new JobDescriptionFormatter();
+        // API 키가 비어 있으면 외부 호출 없이 보존 검사만 측정할 수 있다
+        aiDescriptionFormatter = new AiDescriptionFormatter("", "gpt-4.1-mini", 1400, 0.1);
+        description = Fixtures.load("description.txt");
+        markdown = jobDescriptionFormatter.toMarkdown(description);
+    }
+
+    @Benchmark
+    public String toMarkdown() {
+        return jobDescriptionFormatter.toMarkdown(description);
+    }
+
+    @Benchmark
+    public boolean contentPreservationCheck() {
+        return aiDescriptionFormatter.isContentPreserved(description, markdown);
+    }
+}
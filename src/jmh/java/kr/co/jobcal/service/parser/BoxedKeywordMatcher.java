@@ -0,0 +1,88 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+// 비교용: 전이를 List<Map<Character, Integer>>로 들고 있던 이전 KeywordMatcher
+final class BoxedKeywordMatcher {
+
+    private final List<String> keywords;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    private final List<Long> outputs = new ArrayList<>();
+
+    BoxedKeywordMatcher(List<String> keywords) {
+        if (keywords.size() > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " keywords are supported");
+        }
+        this.keywords = keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+        newState();
+        for (int i = 0; i < this.keywords.size(); i++) {
+            insert(this.keywords.get(i), i);
+        }
+        buildFailureLinks();
+    }
+
+    // 텍스트에 포함된 키워드들의 비트마스크 (bit i = keywords[i])
+    long match(CharSequence lowerCaseText) {
+        long found = 0L;
+        int state = 0;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            char c = lowerCaseText.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != 0) {
+                state = failure.get(state);
+                next = transitions.get(state).get(c);
+            }
+            state = next != null ? next : 0;
+            found |= outputs.get(state);
+        }
+        return found;
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        failure.add(0);
+        outputs.add(0L);
+        return transitions.size() - 1;
+    }
+
+    private void insert(String keyword, int index) {
+        int state = 0;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newState();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.set(state, outputs.get(state) | (1L << index));
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure.get(state);
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                while (target == null && fallback != 0) {
+                    fallback = failure.get(fallback);
+                    target = transitions.get(fallback).get(edge.getKey());
+                }
+                int link = target != null && target != child ? target : 0;
+                failure.set(child, link);
+                outputs.set(child, outputs.get(child) | outputs.get(link));
+                queue.add(child);
+            }
+        }
+    }
+}
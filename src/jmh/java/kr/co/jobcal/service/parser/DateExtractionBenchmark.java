@@ -0,0 +1,44 @@
+package kr.co.jobcal.service.parser;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DateExtractionBenchmark {
+
+    @Param({
+        "지원 마감 2025.03.31(월) 23:59",
+        "채용기간 2025년 1월 10일 ~ 2025년 3월 31일",
+        "잡캘｜백엔드 개발자 채용 (~3/31)",
+        "상시채용",
+        "서울특별시 강남구 테헤란로 123, 10층 근무지역 안내 및 교통편"
+    })
+    public String text;
+
+    private BaseParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new GenericParser("");
+    }
+
+    @Benchmark
+    public LocalDate extractDate() {
+        return parser.extractDate(text);
+    }
+
+    @Benchmark
+    public DateExtractor.DateMatch dateExtractor() {
+        return DateExtractor.find(text);
+    }
+}
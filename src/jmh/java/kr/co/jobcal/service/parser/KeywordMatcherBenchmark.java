@@ -0,0 +1,81 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import kr.co.jobcal.benchmark.Fixtures;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// BaseParser가 문서를 색인할 때처럼 요소별 ownText를 키워드 전체와 맞춰 본다.
+// primitive(현재 KeywordMatcher) / boxed(맵 기반 이전 구현) / containsLoop(키워드마다 contains)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeywordMatcherBenchmark {
+
+    @Param({"wanted.html", "inthiswork.html", "jobkorea.html", "generic.html"})
+    public String fixture;
+
+    private String[] texts;
+    private List<String> keywords;
+    private KeywordMatcher primitiveMatcher;
+    private BoxedKeywordMatcher boxedMatcher;
+
+    @Setup
+    public void setUp() {
+        List<String> ownTexts = new ArrayList<>();
+        for (Element element : Jsoup.parse(Fixtures.load(fixture)).getAllElements()) {
+            String ownText = element.ownText();
+            if (!ownText.isEmpty()) {
+                ownTexts.add(ownText.toLowerCase(Locale.ROOT));
+            }
+        }
+        texts = ownTexts.toArray(String[]::new);
+        keywords = BaseParser.INDEXED_KEYWORDS.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+        primitiveMatcher = new KeywordMatcher(BaseParser.INDEXED_KEYWORDS);
+        boxedMatcher = new BoxedKeywordMatcher(BaseParser.INDEXED_KEYWORDS);
+    }
+
+    @Benchmark
+    public long primitive() {
+        long found = 0L;
+        for (String text : texts) {
+            found ^= primitiveMatcher.match(text);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long boxed() {
+        long found = 0L;
+        for (String text : texts) {
+            found ^= boxedMatcher.match(text);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long containsLoop() {
+        long found = 0L;
+        for (String text : texts) {
+            long matched = 0L;
+            for (int i = 0; i < keywords.size(); i++) {
+                if (text.contains(keywords.get(i))) {
+                    matched |= 1L << i;
+                }
+            }
+            found ^= matched;
+        }
+        return found;
+    }
+}
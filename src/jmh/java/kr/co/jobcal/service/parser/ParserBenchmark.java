@@ -0,0 +1,50 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.concurrent.TimeUnit;
+import kr.co.jobcal.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParserBenchmark {
+
+    private String wantedHtml;
+    private String inthisworkHtml;
+    private String jobKoreaHtml;
+    private String genericHtml;
+
+    @Setup
+    public void setUp() {
+        wantedHtml = Fixtures.load("wanted.html");
+        inthisworkHtml = Fixtures.load("inthiswork.html");
+        jobKoreaHtml = Fixtures.load("jobkorea.html");
+        genericHtml = Fixtures.load("generic.html");
+    }
+
+    @Benchmark
+    public ParsedJob wanted() {
+        return new WantedParser(wantedHtml).parse();
+    }
+
+    @Benchmark
+    public ParsedJob inthiswork() {
+        return new InthisworkParser(inthisworkHtml).parse();
+    }
+
+    @Benchmark
+    public ParsedJob jobKorea() {
+        return new JobKoreaParser(jobKoreaHtml).parse();
+    }
+
+    @Benchmark
+    public ParsedJob generic() {
+        return new GenericParser(genericHtml).parse();
+    }
+}
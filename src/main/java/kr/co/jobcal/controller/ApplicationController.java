@@ -2,20 +2,25 @@ package kr.co.jobcal.controller;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import kr.co.jobcal.dto.ApplicationPage;
 import kr.co.jobcal.dto.ApplicationResponse;
+import kr.co.jobcal.dto.ApplicationSummaryResponse;
 import kr.co.jobcal.dto.ApplicationUpdateRequest;
 import kr.co.jobcal.dto.JobPostingResponse;
 import kr.co.jobcal.entity.Application;
 import kr.co.jobcal.entity.JobPosting;
 import kr.co.jobcal.service.ApplicationService;
 import kr.co.jobcal.service.CurrentUserProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -24,18 +29,75 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestMapping("/api/applications")
 public class ApplicationController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ApplicationService applicationService;
     private final CurrentUserProvider currentUserProvider;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public ApplicationController(ApplicationService applicationService, CurrentUserProvider currentUserProvider) {
+    public ApplicationController(
+        ApplicationService applicationService,
+        CurrentUserProvider currentUserProvider,
+        @Value("${app.applications.page.default-size:50}") int defaultPageSize,
+        @Value("${app.applications.page.max-size:100}") int maxPageSize
+    ) {
         this.applicationService = applicationService;
         this.currentUserProvider = currentUserProvider;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
+    // 최신순 페이지. 다음 페이지가 있으면 X-Next-Cursor 헤더 값을 cursor로 다시 보낸다.
     @GetMapping
-    public List<ApplicationResponse> getApplications() {
-        List<Application> applications = applicationService.getUserApplications(currentUserProvider.getCurrentUserId());
-        return applications.stream().map(this::toApplicationResponse).collect(Collectors.toList());
+    public ResponseEntity<List<ApplicationResponse>> getApplications(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = resolvePageSize(size);
+        ApplicationPage<Application> page;
+        try {
+            page = applicationService.getUserApplications(currentUserProvider.getCurrentUserId(), cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+
+        List<ApplicationResponse> body = page.items().stream()
+            .map(this::toApplicationResponse)
+            .collect(Collectors.toList());
+        return withNextCursor(page).body(body);
+    }
+
+    // 목록 화면용 요약 (id, 상태, 회사, 제목, 마감일, 위치). 페이징은 GET /api/applications와 같다.
+    @GetMapping("/summary")
+    public ResponseEntity<List<ApplicationSummaryResponse>> getApplicationSummaries(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = resolvePageSize(size);
+        ApplicationPage<ApplicationSummaryResponse> page;
+        try {
+            page = applicationService.getUserApplicationSummaries(currentUserProvider.getCurrentUserId(), cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        return withNextCursor(page).body(page.items());
+    }
+
+    private int resolvePageSize(Integer size) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + maxPageSize);
+        }
+        return pageSize;
+    }
+
+    private ResponseEntity.BodyBuilder withNextCursor(ApplicationPage<?> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response;
     }
 
     @GetMapping("/{applicationId}")
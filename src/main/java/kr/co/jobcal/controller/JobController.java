@@ -1,6 +1,16 @@
 package kr.co.jobcal.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import kr.co.jobcal.dto.ApplicationCreateRequest;
+import kr.co.jobcal.dto.JobPostingBatchCreateResult;
+import kr.co.jobcal.dto.JobPostingBatchParseRequest;
+import kr.co.jobcal.dto.JobPostingBatchParseResult;
 import kr.co.jobcal.dto.JobPostingCreateRequest;
 import kr.co.jobcal.dto.JobPostingParseRequest;
 import kr.co.jobcal.dto.JobPostingParseResponse;
@@ -10,8 +20,14 @@ import kr.co.jobcal.entity.JobPosting;
 import kr.co.jobcal.service.ApplicationService;
 import kr.co.jobcal.service.CurrentUserProvider;
 import kr.co.jobcal.service.JobPostingService;
+import kr.co.jobcal.service.ParseBatchService;
 import kr.co.jobcal.service.ParserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,26 +36,39 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+    private static final MediaType NDJSON_UTF8 = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
     private final ParserService parserService;
+    private final ParseBatchService parseBatchService;
     private final JobPostingService jobPostingService;
     private final ApplicationService applicationService;
     private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final Duration streamTimeout;
 
     public JobController(
         ParserService parserService,
+        ParseBatchService parseBatchService,
         JobPostingService jobPostingService,
         ApplicationService applicationService,
-        CurrentUserProvider currentUserProvider
+        CurrentUserProvider currentUserProvider,
+        ObjectMapper objectMapper,
+        @Value("${app.parser.batch.stream-timeout:10m}") Duration streamTimeout
     ) {
         this.parserService = parserService;
+        this.parseBatchService = parseBatchService;
         this.jobPostingService = jobPostingService;
         this.applicationService = applicationService;
         this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.streamTimeout = streamTimeout;
     }
 
     @PostMapping("/parse")
@@ -47,10 +76,36 @@ public class JobController {
         if (request == null || request.getUrl() == null || request.getUrl().isBlank()) {
             return new JobPostingParseResponse(false, null, "URL is required");
         }
-        ParserService.ParserResult result = parserService.parseUrl(request.getUrl());
+        // 익명 요청은 알려진 채용 사이트만 (임의 주소 fetch는 로그인 사용자에게만 연다)
+        ParserService.ParserResult result = parserService.parseUrl(request.getUrl(), currentUserProvider.isAuthenticated());
         return new JobPostingParseResponse(result.isSuccess(), result.getData(), result.getError());
     }
 
+    @PostMapping("/parse-batch")
+    public ResponseEntity<ResponseBodyEmitter> parseBatch(@RequestBody JobPostingBatchParseRequest request) {
+        if (request == null || request.getUrls() == null || request.getUrls().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "URLs are required");
+        }
+        if (request.getUrls().size() > parseBatchService.getMaxUrls()) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "Too many URLs (max " + parseBatchService.getMaxUrls() + ")"
+            );
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeout.toMillis());
+        AtomicBoolean cancelled = cancelOnClose(emitter);
+        Thread.ofVirtual().name("parse-batch").start(() -> {
+            try {
+                parseBatchService.parseAll(request.getUrls(), cancelled::get, item -> sendNdjson(emitter, item, cancelled));
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON_UTF8).body(emitter);
+    }
+
     @PostMapping("/parse-and-create")
     @ResponseStatus(HttpStatus.OK)
     public JobPostingResponse parseAndCreate(@RequestBody JobPostingParseRequest request) {
@@ -58,31 +113,66 @@ public class JobController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "URL is required");
         }
 
-        ParserService.ParserResult result = parserService.parseUrl(request.getUrl());
+        ParserService.ParserResult result = parserService.parseUrl(request.getUrl(), true);
         if (!result.isSuccess() || result.getData() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, result.getError() != null ? result.getError() : "Parsing failed");
         }
 
-        JobPosting jobPosting = jobPostingService.createOrUpdate(result.getData());
+        JobPosting jobPosting = createAndTrack(result.getData(), currentUserProvider.getCurrentUserId());
+        return toJobPostingResponse(jobPosting);
+    }
 
-        ApplicationCreateRequest applicationRequest = new ApplicationCreateRequest();
-        applicationRequest.setJobPostingId(jobPosting.getId());
-        applicationRequest.setStatus(ApplicationStatus.NOT_APPLIED);
-        applicationService.createApplication(currentUserProvider.getCurrentUserId(), applicationRequest);
+    @PostMapping("/parse-and-create-batch")
+    public ResponseEntity<ResponseBodyEmitter> parseAndCreateBatch(@RequestBody JobPostingBatchParseRequest request) {
+        if (request == null || request.getUrls() == null || request.getUrls().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "URLs are required");
+        }
+        if (request.getUrls().size() > parseBatchService.getMaxUrls()) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "Too many URLs (max " + parseBatchService.getMaxUrls() + ")"
+            );
+        }
 
-        return toJobPostingResponse(jobPosting);
+        // SecurityContext는 요청 스레드에만 있으므로 스트리밍 시작 전에 사용자 확인
+        String userId = currentUserProvider.getCurrentUserId();
+        // 같은 공고를 가리키는 URL을 동시에 만들면 original_url 유니크 제약에 걸리므로 대표 URL만 처리한다
+        List<String> urls = request.getUrls();
+        List<List<Integer>> groups = ParseBatchService.groupByCanonicalUrl(urls);
+        List<String> distinctUrls = groups.stream().map(group -> urls.get(group.get(0))).toList();
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeout.toMillis());
+        AtomicBoolean cancelled = cancelOnClose(emitter);
+        Thread.ofVirtual().name("parse-and-create-batch").start(() -> {
+            try {
+                parseBatchService.parseAll(
+                    distinctUrls,
+                    cancelled::get,
+                    item -> {
+                        // 결과를 받을 클라이언트가 없으면 지원도 만들지 않는다
+                        if (cancelled.get()) {
+                            return;
+                        }
+                        List<Integer> group = groups.get(item.getIndex());
+                        item.setIndex(group.get(0));
+                        JobPostingBatchCreateResult created = createFromBatchItem(item, userId);
+                        sendNdjson(emitter, created, cancelled);
+                        for (int i = 1; i < group.size(); i++) {
+                            sendNdjson(emitter, duplicateOf(created, group.get(i), urls.get(group.get(i))), cancelled);
+                        }
+                    }
+                );
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON_UTF8).body(emitter);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.OK)
     public JobPostingResponse createJobPosting(@RequestBody JobPostingCreateRequest request) {
-        JobPosting jobPosting = jobPostingService.createOrUpdate(request);
-
-        ApplicationCreateRequest applicationRequest = new ApplicationCreateRequest();
-        applicationRequest.setJobPostingId(jobPosting.getId());
-        applicationRequest.setStatus(ApplicationStatus.NOT_APPLIED);
-        applicationService.createApplication(currentUserProvider.getCurrentUserId(), applicationRequest);
-
+        JobPosting jobPosting = createAndTrack(request, currentUserProvider.getCurrentUserId());
         return toJobPostingResponse(jobPosting);
     }
 
@@ -93,6 +183,68 @@ public class JobController {
         return toJobPostingResponse(jobPosting);
     }
 
+    private JobPosting createAndTrack(JobPostingCreateRequest request, String userId) {
+        JobPosting jobPosting = jobPostingService.createOrUpdate(request);
+
+        ApplicationCreateRequest applicationRequest = new ApplicationCreateRequest();
+        applicationRequest.setJobPostingId(jobPosting.getId());
+        applicationRequest.setStatus(ApplicationStatus.NOT_APPLIED);
+        applicationService.createApplication(userId, applicationRequest);
+        return jobPosting;
+    }
+
+    private JobPostingBatchCreateResult createFromBatchItem(JobPostingBatchParseResult item, String userId) {
+        if (!item.isSuccess() || item.getData() == null) {
+            String error = item.getError() != null ? item.getError() : "Parsing failed";
+            return new JobPostingBatchCreateResult(item.getIndex(), item.getUrl(), false, null, error);
+        }
+        try {
+            JobPosting jobPosting = createAndTrack(item.getData(), userId);
+            return new JobPostingBatchCreateResult(item.getIndex(), item.getUrl(), true, toJobPostingResponse(jobPosting), null);
+        } catch (RuntimeException e) {
+            logger.warn("Batch create failed for URL {}: {}", item.getUrl(), e.getMessage());
+            return new JobPostingBatchCreateResult(item.getIndex(), item.getUrl(), false, null, "Failed to save job posting");
+        }
+    }
+
+    private JobPostingBatchCreateResult duplicateOf(JobPostingBatchCreateResult first, int index, String url) {
+        JobPostingBatchCreateResult duplicate = new JobPostingBatchCreateResult(
+            index,
+            url,
+            first.isSuccess(),
+            first.getJobPosting(),
+            first.getError()
+        );
+        duplicate.setDuplicateOf(first.getIndex());
+        return duplicate;
+    }
+
+    // 타임아웃, 연결 오류, 완료 중 하나라도 일어나면 남은 URL 처리를 멈추도록 표시한다
+    private AtomicBoolean cancelOnClose(ResponseBodyEmitter emitter) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(error -> cancelled.set(true));
+        emitter.onCompletion(() -> cancelled.set(true));
+        return cancelled;
+    }
+
+    private void sendNdjson(ResponseBodyEmitter emitter, Object item, AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            return;
+        }
+        try {
+            String line = objectMapper.writeValueAsString(item) + "\n";
+            synchronized (emitter) {
+                emitter.send(line, NDJSON_UTF8);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stream item", e);
+        } catch (IOException | IllegalStateException e) {
+            cancelled.set(true);
+            logger.debug("Stream client disconnected: {}", e.getMessage());
+        }
+    }
+
     private JobPostingResponse toJobPostingResponse(JobPosting jobPosting) {
         JobPostingResponse response = new JobPostingResponse();
         response.setId(jobPosting.getId());
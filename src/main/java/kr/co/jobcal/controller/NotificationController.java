@@ -0,0 +1,41 @@
+package kr.co.jobcal.controller;
+
+import kr.co.jobcal.dto.NotificationPreferenceRequest;
+import kr.co.jobcal.dto.NotificationPreferenceResponse;
+import kr.co.jobcal.service.CurrentUserProvider;
+import kr.co.jobcal.service.NotificationPreferenceService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationPreferenceService preferenceService;
+    private final CurrentUserProvider currentUserProvider;
+
+    public NotificationController(NotificationPreferenceService preferenceService, CurrentUserProvider currentUserProvider) {
+        this.preferenceService = preferenceService;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    @GetMapping("/preferences")
+    public NotificationPreferenceResponse getPreferences() {
+        return preferenceService.getPreference(currentUserProvider.getCurrentUserId());
+    }
+
+    // 예: {"leadDays": [7, 1], "notifyHour": 8, "zoneId": "Asia/Seoul"}
+    @PutMapping("/preferences")
+    public NotificationPreferenceResponse updatePreferences(@RequestBody NotificationPreferenceRequest request) {
+        try {
+            return preferenceService.updatePreference(currentUserProvider.getCurrentUserId(), request);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package kr.co.jobcal.dto;
+
+import java.util.List;
+
+// nextCursor가 null이면 마지막 페이지
+public record ApplicationPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package kr.co.jobcal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kr.co.jobcal.entity.ApplicationStatus;
+
+// 목록 화면용 요약. 공고 본문(description, parsed_data)은 읽지 않는다.
+public record ApplicationSummaryResponse(
+    Long id,
+    ApplicationStatus status,
+    Long jobPostingId,
+    String companyName,
+    String jobTitle,
+    LocalDate deadline,
+    String location,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package kr.co.jobcal.dto;
+
+import java.time.LocalDate;
+
+// 마감 알림 스캔용 행. 지원/공고 엔티티 대신 알림에 필요한 컬럼만 읽는다.
+public record DeadlineNotificationRow(
+    Long applicationId,
+    String userId,
+    String companyName,
+    String jobTitle,
+    LocalDate deadline
+) {
+}
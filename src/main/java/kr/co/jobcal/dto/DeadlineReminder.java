@@ -0,0 +1,8 @@
+package kr.co.jobcal.dto;
+
+// 발송 시각이 된 마감 알림 한 건 (지원, 남은 일수)
+public record DeadlineReminder(
+    DeadlineNotificationRow row,
+    int leadDays
+) {
+}
@@ -0,0 +1,70 @@
+package kr.co.jobcal.dto;
+
+public class JobPostingBatchCreateResult {
+    private int index;
+    private String url;
+    private boolean success;
+    private JobPostingResponse jobPosting;
+    private String error;
+    // 같은 공고를 가리키는 앞선 URL의 index. 이 항목은 따로 만들지 않고 그 결과를 그대로 돌려준다.
+    private Integer duplicateOf;
+
+    public JobPostingBatchCreateResult() {
+    }
+
+    public JobPostingBatchCreateResult(int index, String url, boolean success, JobPostingResponse jobPosting, String error) {
+        this.index = index;
+        this.url = url;
+        this.success = success;
+        this.jobPosting = jobPosting;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public JobPostingResponse getJobPosting() {
+        return jobPosting;
+    }
+
+    public void setJobPosting(JobPostingResponse jobPosting) {
+        this.jobPosting = jobPosting;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Integer getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public void setDuplicateOf(Integer duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
+}
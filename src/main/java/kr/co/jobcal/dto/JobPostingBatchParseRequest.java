@@ -0,0 +1,15 @@
+package kr.co.jobcal.dto;
+
+import java.util.List;
+
+public class JobPostingBatchParseRequest {
+    private List<String> urls;
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+}
@@ -0,0 +1,60 @@
+package kr.co.jobcal.dto;
+
+public class JobPostingBatchParseResult {
+    private int index;
+    private String url;
+    private boolean success;
+    private JobPostingCreateRequest data;
+    private String error;
+
+    public JobPostingBatchParseResult() {
+    }
+
+    public JobPostingBatchParseResult(int index, String url, boolean success, JobPostingCreateRequest data, String error) {
+        this.index = index;
+        this.url = url;
+        this.success = success;
+        this.data = data;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public JobPostingCreateRequest getData() {
+        return data;
+    }
+
+    public void setData(JobPostingCreateRequest data) {
+        this.data = data;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
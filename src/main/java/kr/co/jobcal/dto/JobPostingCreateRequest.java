@@ -1,5 +1,6 @@
 package kr.co.jobcal.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -12,6 +13,12 @@ public class JobPostingCreateRequest {
     private String description;
     private String descriptionRaw;
     private String location;
+    @JsonIgnore
+    private String etag;
+    @JsonIgnore
+    private String lastModified;
+    @JsonIgnore
+    private String contentHash;
 
     public String getCompanyName() {
         return companyName;
@@ -76,4 +83,28 @@ public class JobPostingCreateRequest {
     public void setDescriptionRaw(String descriptionRaw) {
         this.descriptionRaw = descriptionRaw;
     }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
 }
@@ -0,0 +1,13 @@
+package kr.co.jobcal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 갱신 대상 공고. 엔티티 대신 필요한 컬럼만 읽는다.
+public record JobPostingRefreshTarget(
+    Long id,
+    String originalUrl,
+    LocalDate deadline,
+    LocalDateTime lastCheckedAt
+) {
+}
@@ -0,0 +1,21 @@
+package kr.co.jobcal.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 한 사용자에게 한 번에 보내는 마감 알림 묶음
+public record NotificationDigest(
+    String userId,
+    String email,
+    List<Item> items
+) {
+
+    public record Item(
+        Long applicationId,
+        String companyName,
+        String jobTitle,
+        LocalDate deadline,
+        int leadDays
+    ) {
+    }
+}
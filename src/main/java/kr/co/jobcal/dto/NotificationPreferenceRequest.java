@@ -0,0 +1,34 @@
+package kr.co.jobcal.dto;
+
+import java.util.List;
+
+// null인 항목은 기존 값(없으면 기본값)을 유지한다
+public class NotificationPreferenceRequest {
+    private List<Integer> leadDays;
+    private Integer notifyHour;
+    private String zoneId;
+
+    public List<Integer> getLeadDays() {
+        return leadDays;
+    }
+
+    public void setLeadDays(List<Integer> leadDays) {
+        this.leadDays = leadDays;
+    }
+
+    public Integer getNotifyHour() {
+        return notifyHour;
+    }
+
+    public void setNotifyHour(Integer notifyHour) {
+        this.notifyHour = notifyHour;
+    }
+
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(String zoneId) {
+        this.zoneId = zoneId;
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.jobcal.dto;
+
+import java.util.List;
+
+// 기본값이 적용된 최종 알림 설정
+public record NotificationPreferenceResponse(
+    List<Integer> leadDays,
+    int notifyHour,
+    String zoneId
+) {
+}
@@ -22,6 +22,7 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "ix_applications_id", columnList = "id"),
         @Index(name = "ix_applications_user_id", columnList = "user_id"),
+        @Index(name = "ix_applications_user_created_at", columnList = "user_id, created_at, id"),
         @Index(name = "ix_applications_job_posting_id", columnList = "job_posting_id"),
         @Index(name = "ix_applications_status", columnList = "status")
     }
@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import kr.co.jobcal.global.utils.JsonMapConverter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(
     name = "job_postings",
     indexes = {
@@ -60,6 +62,19 @@ public class JobPosting {
     @Column(name = "location", columnDefinition = "TEXT")
     private String location;
 
+    @Column(name = "etag", length = 512)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 백그라운드 갱신이 마지막으로 원본을 확인한 시각
+    @Column(name = "checked_at")
+    private LocalDateTime checkedAt;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -151,6 +166,38 @@ public class JobPosting {
         this.descriptionRaw = descriptionRaw;
     }
 
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(LocalDateTime checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,202 @@
+package kr.co.jobcal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 마감 알림 발송 대기열. 스캔은 여기까지만 쓰고, 발송은 NotificationDeliveryService가 따로 처리한다.
+// 지원이 지워져도 보낼 내용이 남도록 연관 대신 값으로 복사해 둔다.
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+        @Index(name = "ix_notification_outbox_dedupe_key", columnList = "dedupe_key", unique = true),
+        @Index(name = "ix_notification_outbox_reminder", columnList = "application_id, deadline, lead_days", unique = true),
+        @Index(name = "ix_notification_outbox_due", columnList = "status, next_attempt_at, user_id"),
+        @Index(name = "ix_notification_outbox_claim_token", columnList = "claim_token")
+    }
+)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // (지원, 마감일, 남은 일수)마다 한 번만 쌓기 위한 키. 마감일이 바뀌면 새 알림으로 본다.
+    @Column(name = "dedupe_key", nullable = false, unique = true, length = 64)
+    private String dedupeKey;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "company_name")
+    private String companyName;
+
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Column(name = "deadline", nullable = false)
+    private LocalDate deadline;
+
+    @Column(name = "lead_days", nullable = false)
+    private Integer leadDays;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 이 행을 가져간 발송 실행의 토큰
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static String dedupeKey(Long applicationId, LocalDate deadline, int leadDays) {
+        return "deadline:" + applicationId + ":" + deadline + ":" + leadDays;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDedupeKey() {
+        return dedupeKey;
+    }
+
+    public void setDedupeKey(String dedupeKey) {
+        this.dedupeKey = dedupeKey;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    public Integer getLeadDays() {
+        return leadDays;
+    }
+
+    public void setLeadDays(Integer leadDays) {
+        this.leadDays = leadDays;
+    }
+
+    public NotificationOutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(NotificationOutboxStatus status) {
+        this.status = status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+}
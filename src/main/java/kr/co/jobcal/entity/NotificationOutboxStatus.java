@@ -0,0 +1,10 @@
+package kr.co.jobcal.entity;
+
+public enum NotificationOutboxStatus {
+    PENDING,
+    // 발송기가 가져가 보내는 중. 임대 시간(next_attempt_at)이 지나면 PENDING으로 되돌린다.
+    SENDING,
+    SENT,
+    // 재시도 횟수를 다 쓴 메시지
+    FAILED
+}
@@ -0,0 +1,86 @@
+package kr.co.jobcal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+// 사용자별 마감 알림 설정. 행이 없으면 app.notification.* 기본값을 쓴다.
+@Entity
+@Table(name = "notification_preferences")
+public class NotificationPreference {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    // 마감 며칠 전에 알릴지, 쉼표 구분 (예: "7,1")
+    @Column(name = "lead_days", nullable = false, length = 64)
+    private String leadDays;
+
+    // 사용자 시간대 기준 알림 시각 (0-23)
+    @Column(name = "notify_hour", nullable = false)
+    private Integer notifyHour;
+
+    @Column(name = "zone_id", nullable = false, length = 64)
+    private String zoneId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getLeadDays() {
+        return leadDays;
+    }
+
+    public void setLeadDays(String leadDays) {
+        this.leadDays = leadDays;
+    }
+
+    public Integer getNotifyHour() {
+        return notifyHour;
+    }
+
+    public void setNotifyHour(Integer notifyHour) {
+        this.notifyHour = notifyHour;
+    }
+
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(String zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
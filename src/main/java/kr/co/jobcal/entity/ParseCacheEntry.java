@@ -0,0 +1,179 @@
+package kr.co.jobcal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import kr.co.jobcal.global.utils.JsonMapConverter;
+
+// URL별 마지막 파싱 결과. 재시작 후에도 같은 공고를 다시 받지 않도록 DB에 남긴다.
+@Entity
+@Table(
+    name = "parse_cache",
+    indexes = {
+        @Index(name = "ix_parse_cache_fetched_at", columnList = "fetched_at")
+    }
+)
+public class ParseCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // canonical_url의 SHA-256 (긴 URL에 유니크 인덱스를 걸지 않기 위함)
+    @Column(name = "url_hash", nullable = false, unique = true, length = 64)
+    private String urlHash;
+
+    @Column(name = "canonical_url", nullable = false, length = 2048)
+    private String canonicalUrl;
+
+    // 받은 내용의 지문 (SiteParser.fingerprint)
+    @Column(name = "html_hash", length = 64)
+    private String htmlHash;
+
+    @Column(name = "company_name")
+    private String companyName;
+
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Column(name = "deadline")
+    private LocalDate deadline;
+
+    @Convert(converter = JsonMapConverter.class)
+    @Column(name = "parsed_data", columnDefinition = "TEXT")
+    private Map<String, Object> parsedData;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "description_raw", columnDefinition = "TEXT")
+    private String descriptionRaw;
+
+    @Column(name = "location", columnDefinition = "TEXT")
+    private String location;
+
+    @Column(name = "etag", length = 512)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUrlHash() {
+        return urlHash;
+    }
+
+    public void setUrlHash(String urlHash) {
+        this.urlHash = urlHash;
+    }
+
+    public String getCanonicalUrl() {
+        return canonicalUrl;
+    }
+
+    public void setCanonicalUrl(String canonicalUrl) {
+        this.canonicalUrl = canonicalUrl;
+    }
+
+    public String getHtmlHash() {
+        return htmlHash;
+    }
+
+    public void setHtmlHash(String htmlHash) {
+        this.htmlHash = htmlHash;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    public Map<String, Object> getParsedData() {
+        return parsedData;
+    }
+
+    public void setParsedData(Map<String, Object> parsedData) {
+        this.parsedData = parsedData;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getDescriptionRaw() {
+        return descriptionRaw;
+    }
+
+    public void setDescriptionRaw(String descriptionRaw) {
+        this.descriptionRaw = descriptionRaw;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(LocalDateTime fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -6,13 +6,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.Index;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.data.domain.Persistable;
 
 @Entity
     @Table(
@@ -23,7 +27,7 @@ import java.util.List;
         @Index(name = "ix_users_user_id", columnList = "user_id", unique = true)
     }
 )
-public class User {
+public class User implements Persistable<String> {
 
     @Id
     @Column(name = "user_id", nullable = false, unique = true)
@@ -50,6 +54,16 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Application> applications = new ArrayList<>();
 
+    // userId를 직접 할당하므로 save가 merge로 기존 행을 덮어쓰지 않게 새 엔티티 여부를 따로 추적한다
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.isNew = false;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -80,6 +94,16 @@ public class User {
         return userId;
     }
 
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     public void setUserId(String userId) {
         this.userId = userId;
     }
@@ -18,7 +18,7 @@ public class CorsConfig implements WebMvcConfigurer {
             )
             .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
             .allowedHeaders("*")
-            .exposedHeaders("Authorization")
+            .exposedHeaders("Authorization", "X-Next-Cursor")
             .allowCredentials(true);
     }
 }
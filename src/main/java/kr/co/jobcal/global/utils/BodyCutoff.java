@@ -0,0 +1,26 @@
+package kr.co.jobcal.global.utils;
+
+import java.nio.charset.StandardCharsets;
+
+// 본문에서 start 마커 이후 처음 나오는 end 마커까지 받으면 다운로드를 멈춘다
+public class BodyCutoff {
+    private final byte[] startMarker;
+    private final byte[] endMarker;
+
+    public BodyCutoff(String startMarker, String endMarker) {
+        this.startMarker = startMarker.getBytes(StandardCharsets.US_ASCII);
+        this.endMarker = endMarker.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static BodyCutoff afterScript(String scriptId) {
+        return new BodyCutoff("id=\"" + scriptId + "\"", "</script>");
+    }
+
+    public byte[] getStartMarker() {
+        return startMarker;
+    }
+
+    public byte[] getEndMarker() {
+        return endMarker;
+    }
+}
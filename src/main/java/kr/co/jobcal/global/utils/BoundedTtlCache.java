@@ -0,0 +1,162 @@
+package kr.co.jobcal.global.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public BoundedTtlCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            misses.increment();
+            return null;
+        }
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt <= clock.millis()) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        long expiresAt = clock.millis() + ttlMillis;
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAt));
+            evictOverflow();
+        }
+    }
+
+    // 없으면 만들어 넣는다. 있으면 만료를 연장해서 계속 쓰이는 항목은 남고, 쓰이지 않는 항목만 빠진다.
+    public V getOrCompute(K key, Function<? super K, ? extends V> factory) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            V value;
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                value = entry.value;
+            } else {
+                if (entry != null) {
+                    evictions.increment();
+                }
+                misses.increment();
+                value = factory.apply(key);
+            }
+            entries.put(key, new Entry<>(value, now + ttlMillis));
+            evictOverflow();
+            return value;
+        }
+    }
+
+    // 만료되지 않은 값의 스냅샷
+    public List<V> values() {
+        long now = clock.millis();
+        synchronized (entries) {
+            List<V> values = new ArrayList<>(entries.size());
+            for (Entry<V> entry : entries.values()) {
+                if (entry.expiresAt > now) {
+                    values.add(entry.value);
+                }
+            }
+            return values;
+        }
+    }
+
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    // 값 기준으로 지운다 (키를 모르는 쪽에서 무효화할 때)
+    public void invalidateIf(Predicate<? super V> predicate) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> predicate.test(entry.value));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.jobcal.global.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    // OPEN이면 false. 대기 시간이 지나면 HALF_OPEN으로 전환해 시험 요청 하나만 통과시킨다.
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && openElapsed()) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.OPEN) {
+            return false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    // 요청을 보내지 못하고 포기한 경우 시험 슬롯을 돌려준다
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    // 이번 실패로 OPEN이 되었으면 true
+    public synchronized boolean onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN) {
+            open();
+            return true;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && openElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanos(clock.instant());
+        consecutiveFailures = 0;
+    }
+
+    private boolean openElapsed() {
+        return nanos(clock.instant()) - openedAtNanos >= openNanos;
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
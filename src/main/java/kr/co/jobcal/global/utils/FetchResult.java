@@ -0,0 +1,62 @@
+package kr.co.jobcal.global.utils;
+
+public class FetchResult {
+    private final int statusCode;
+    private final String body;
+    private final String etag;
+    private final String lastModified;
+    private final String rejectedReason;
+
+    public FetchResult(int statusCode, String body, String etag, String lastModified) {
+        this(statusCode, body, etag, lastModified, null);
+    }
+
+    private FetchResult(int statusCode, String body, String etag, String lastModified, String rejectedReason) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.rejectedReason = rejectedReason;
+    }
+
+    public static FetchResult failed() {
+        return new FetchResult(-1, null, null, null);
+    }
+
+    // 요청을 보내지 않고 거절한 경우 (rate limit, circuit open 등)
+    public static FetchResult rejected(String reason) {
+        return new FetchResult(-1, null, null, null, reason);
+    }
+
+    public boolean isRejected() {
+        return rejectedReason != null;
+    }
+
+    public String getRejectedReason() {
+        return rejectedReason;
+    }
+
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300 && body != null;
+    }
+
+    public boolean isNotModified() {
+        return statusCode == 304;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,110 @@
+package kr.co.jobcal.global.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// 해시 타이밍 휠. 만료 시각을 tick 단위로 잘라 wheelSize개의 슬롯에 나눠 담는다.
+// 등록/취소는 O(1), advance는 지나간 슬롯만 본다. 한 바퀴보다 먼 항목은 여러 바퀴 동안 슬롯에 남는다.
+// 정밀도는 tick이다. 만료 시각은 tick 경계로 올림된다.
+public class HashedTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<List<Timeout<K, V>>> slots;
+    private final Map<K, Timeout<K, V>> timeouts = new HashMap<>();
+    // 마지막으로 처리한 tick
+    private long currentTick;
+
+    public HashedTimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick == null || tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        this.tickMillis = tick.toMillis();
+        this.startMillis = start.toEpochMilli();
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    // 같은 키가 있으면 교체한다. 이미 지난 시각이면 다음 advance에서 만료된다.
+    public synchronized void schedule(K key, Instant fireAt, V value) {
+        cancel(key);
+        long ticks = Math.ceilDiv(fireAt.toEpochMilli() - startMillis, tickMillis);
+        long deadlineTick = Math.max(ticks, currentTick + 1);
+        Timeout<K, V> timeout = new Timeout<>(key, value, deadlineTick);
+        slots.get((int) Math.floorMod(deadlineTick, (long) slots.size())).add(timeout);
+        timeouts.put(key, timeout);
+    }
+
+    // 슬롯에서는 다음에 지나갈 때 지운다
+    public synchronized boolean cancel(K key) {
+        Timeout<K, V> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        return true;
+    }
+
+    public synchronized void clear() {
+        for (Timeout<K, V> timeout : timeouts.values()) {
+            timeout.cancelled = true;
+        }
+        timeouts.clear();
+        for (List<Timeout<K, V>> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    // now까지 만료된 값을 만료 순서(슬롯 순서)로 돌려준다
+    public synchronized List<V> advance(Instant now) {
+        long targetTick = Math.floorDiv(now.toEpochMilli() - startMillis, tickMillis);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+        // 한 바퀴 넘게 밀렸으면 모든 슬롯을 한 번씩만 보면 된다
+        long firstTick = Math.max(currentTick + 1, targetTick - slots.size() + 1);
+        List<V> expired = new ArrayList<>();
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Iterator<Timeout<K, V>> iterator = slots.get((int) Math.floorMod(tick, (long) slots.size())).iterator();
+            while (iterator.hasNext()) {
+                Timeout<K, V> timeout = iterator.next();
+                if (timeout.cancelled) {
+                    iterator.remove();
+                } else if (timeout.deadlineTick <= targetTick) {
+                    iterator.remove();
+                    timeouts.remove(timeout.key);
+                    expired.add(timeout.value);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timeouts.size();
+    }
+
+    private static final class Timeout<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Timeout(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -1,45 +1,437 @@
 package kr.co.jobcal.global.utils;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+@Component
 public class HttpFetcher {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpFetcher.class);
-    private static final HttpClient CLIENT = HttpClient.newBuilder()
-        .followRedirects(HttpClient.Redirect.NORMAL)
-        .connectTimeout(Duration.ofSeconds(10))
-        .build();
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String REJECTED_RATE_LIMITED = "rate_limited";
+    private static final String REJECTED_CIRCUIT_OPEN = "circuit_open";
+    private static final String REJECTED_BUSY = "busy";
+    private static final String REJECTED_REDIRECT = "redirect";
+    private static final int MAX_REDIRECTS = 5;
 
-    public static String fetchUrl(String url) {
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final Duration requestTimeout;
+    private final int maxConnectionsPerHost;
+    private final long maxBodyBytes;
+    private final double ratePermitsPerSecond;
+    private final int rateBurst;
+    private final Duration rateLimitMaxWait;
+    private final int circuitFailureThreshold;
+    private final Duration circuitOpenDuration;
+    private final MeterRegistry meterRegistry;
+    // 임의 호스트가 들어올 수 있으므로 오래 쓰이지 않은 호스트 상태는 버린다
+    private final BoundedTtlCache<String, HostState> hostStates;
+
+    public HttpFetcher(
+        @Value("${app.fetcher.connect-timeout:10s}") Duration connectTimeout,
+        @Value("${app.fetcher.request-timeout:10s}") Duration requestTimeout,
+        @Value("${app.fetcher.max-connections-per-host:8}") int maxConnectionsPerHost,
+        @Value("${app.fetcher.virtual-threads:true}") boolean virtualThreads,
+        @Value("${app.fetcher.pool-size:16}") int poolSize,
+        @Value("${app.fetcher.max-body-size:5MB}") DataSize maxBodySize,
+        @Value("${app.fetcher.rate-limit.permits-per-second:10}") double ratePermitsPerSecond,
+        @Value("${app.fetcher.rate-limit.burst:20}") int rateBurst,
+        @Value("${app.fetcher.rate-limit.max-wait:2s}") Duration rateLimitMaxWait,
+        @Value("${app.fetcher.circuit.failure-threshold:5}") int circuitFailureThreshold,
+        @Value("${app.fetcher.circuit.open-duration:30s}") Duration circuitOpenDuration,
+        @Value("${app.fetcher.host-state.max-size:1000}") int hostStateMaxSize,
+        @Value("${app.fetcher.host-state.idle-ttl:30m}") Duration hostStateIdleTtl,
+        MeterRegistry meterRegistry
+    ) {
+        this.executor = virtualThreads
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(poolSize);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            // 리다이렉트는 send()에서 직접 따라가며 매 hop마다 대상 주소를 확인한다
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(connectTimeout)
+            .executor(executor)
+            .build();
+        this.requestTimeout = requestTimeout;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxBodyBytes = maxBodySize.toBytes();
+        this.ratePermitsPerSecond = ratePermitsPerSecond;
+        this.rateBurst = rateBurst;
+        this.rateLimitMaxWait = rateLimitMaxWait;
+        this.circuitFailureThreshold = circuitFailureThreshold;
+        this.circuitOpenDuration = circuitOpenDuration;
+        this.meterRegistry = meterRegistry;
+        this.hostStates = new BoundedTtlCache<>(hostStateMaxSize, hostStateIdleTtl);
+
+        Gauge.builder("fetcher.circuit.hosts", this, fetcher -> fetcher.countCircuits(CircuitBreaker.State.OPEN))
+            .tag("state", "open")
+            .register(meterRegistry);
+        Gauge.builder("fetcher.circuit.hosts", this, fetcher -> fetcher.countCircuits(CircuitBreaker.State.HALF_OPEN))
+            .tag("state", "half_open")
+            .register(meterRegistry);
+    }
+
+    // etag/lastModified가 있으면 조건부 요청을 보내고, 304면 body 없이 isNotModified()로 돌려준다
+    // site: 메트릭 태그용 사이트 이름 (호스트를 그대로 태그로 쓰지 않는다)
+    // 요청은 client.sendAsync로 보내고, 레이트 리밋 대기도 스레드를 재우지 않고 지연 실행으로 처리한다.
+    // 실패는 예외가 아니라 FetchResult로 완료된다.
+    public CompletableFuture<FetchResult> fetchAsync(
+        String url,
+        String site,
+        String etag,
+        String lastModified,
+        BodyCutoff cutoff
+    ) {
+        URI uri;
+        HostState hostState;
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(10))
-                .GET()
-                .build();
-            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return response.body();
-            }
-            logger.warn("Failed to fetch URL {} with status {}", url, response.statusCode());
-            return null;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Error fetching URL {}: {}", url, e.getMessage());
-            return null;
-        } catch (IOException e) {
-            logger.warn("Error fetching URL {}: {}", url, e.getMessage());
-            return null;
+            uri = URI.create(url);
+            hostState = hostState(uri, site);
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid URL {}: {}", url, e.getMessage());
-            return null;
+            return CompletableFuture.completedFuture(FetchResult.failed());
+        }
+
+        Duration wait = hostState.bucket.reserve(rateLimitMaxWait);
+        if (wait == null) {
+            rejectedCounter(REJECTED_RATE_LIMITED).increment();
+            return CompletableFuture.completedFuture(FetchResult.rejected("rate limited: " + hostState.host));
+        }
+        Executor start = wait.isZero()
+            ? executor
+            : CompletableFuture.delayedExecutor(wait.toMillis(), TimeUnit.MILLISECONDS, executor);
+        return CompletableFuture.supplyAsync(() -> admit(hostState), start)
+            .thenCompose(rejection -> rejection != null
+                ? CompletableFuture.completedFuture(rejection)
+                : sendAdmitted(uri, hostState, etag, lastModified, cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 서킷과 호스트 동시 요청 수를 확인한다. 통과하면 null (permit과 서킷 시도권을 잡은 상태)
+    private FetchResult admit(HostState hostState) {
+        if (!hostState.breaker.tryAcquire()) {
+            rejectedCounter(REJECTED_CIRCUIT_OPEN).increment();
+            return FetchResult.rejected("circuit open: " + hostState.host);
+        }
+        boolean permitted = false;
+        try {
+            permitted = hostState.permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!permitted) {
+            hostState.breaker.release();
+            rejectedCounter(REJECTED_BUSY).increment();
+            return FetchResult.rejected("too many concurrent requests: " + hostState.host);
+        }
+        return null;
+    }
+
+    // 결과를 서킷에 기록하고 permit을 돌려준다
+    private CompletableFuture<FetchResult> sendAdmitted(
+        URI uri,
+        HostState hostState,
+        String etag,
+        String lastModified,
+        BodyCutoff cutoff
+    ) {
+        CompletableFuture<FetchResult> sent;
+        try {
+            sent = send(uri, uri, 0, etag, lastModified, cutoff);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.handle((result, error) -> {
+            try {
+                if (error == null) {
+                    if (isOriginFailure(result)) {
+                        recordFailure(hostState);
+                    } else {
+                        hostState.breaker.onSuccess();
+                    }
+                    return result;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                logger.warn("Error fetching URL {}: {}", uri, cause.getMessage());
+                // 네트워크 오류만 원 서버 실패로 센다
+                if (cause instanceof IOException) {
+                    recordFailure(hostState);
+                } else {
+                    hostState.breaker.release();
+                }
+                return FetchResult.failed();
+            } finally {
+                hostState.permits.release();
+            }
+        });
+    }
+
+    private CompletableFuture<FetchResult> send(
+        URI origin,
+        URI current,
+        int hop,
+        String etag,
+        String lastModified,
+        BodyCutoff cutoff
+    ) {
+        return client.sendAsync(request(current, etag, lastModified), HttpResponse.BodyHandlers.ofInputStream())
+            // 본문 읽기는 블로킹이므로 fetcher의 executor에서 한다
+            .thenComposeAsync(response -> {
+                try {
+                    if (!isRedirect(response.statusCode())) {
+                        return CompletableFuture.completedFuture(read(current, response, etag, lastModified, cutoff));
+                    }
+                    response.body().close();
+                } catch (IOException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+
+                String location = response.headers().firstValue("Location").orElse(null);
+                if (location == null || hop >= MAX_REDIRECTS) {
+                    logger.warn("Stopped following redirects from {} at {}", origin, current);
+                    return CompletableFuture.completedFuture(new FetchResult(response.statusCode(), null, null, null));
+                }
+                URI next;
+                try {
+                    next = current.resolve(location.trim());
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Invalid redirect from {} to {}", current, location);
+                    return CompletableFuture.completedFuture(new FetchResult(response.statusCode(), null, null, null));
+                }
+                // 공개 주소에서 내부망(메타데이터, localhost 등)으로 넘기는 리다이렉트를 막는다
+                if (!PublicUrlGuard.isPublicHttpUrl(next.toString())) {
+                    logger.warn("Blocked redirect from {} to non-public address {}", current, next);
+                    rejectedCounter(REJECTED_REDIRECT).increment();
+                    return CompletableFuture.completedFuture(FetchResult.rejected("redirect to non-public address"));
+                }
+                return send(origin, next, hop + 1, etag, lastModified, cutoff);
+            }, executor);
+    }
+
+    private HttpRequest request(URI uri, String etag, String lastModified) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(uri)
+            .timeout(requestTimeout)
+            .header("Accept", "text/html,application/xhtml+xml;q=0.9,*/*;q=0.8")
+            .header("Accept-Encoding", ACCEPT_ENCODING)
+            .GET();
+        if (etag != null && !etag.isBlank()) {
+            builder.header("If-None-Match", etag);
+        }
+        if (lastModified != null && !lastModified.isBlank()) {
+            builder.header("If-Modified-Since", lastModified);
+        }
+        return builder.build();
+    }
+
+    private boolean isRedirect(int status) {
+        return status == 301 || status == 302 || status == 303 || status == 307 || status == 308;
+    }
+
+    private FetchResult read(
+        URI uri,
+        HttpResponse<InputStream> response,
+        String etag,
+        String lastModified,
+        BodyCutoff cutoff
+    ) throws IOException {
+        String responseEtag = response.headers().firstValue("ETag").orElse(null);
+        String responseLastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        int status = response.statusCode();
+        // 상태를 먼저 본다. 본문이 없는 304/204에 Content-Encoding: gzip이 붙어 와도 디코딩하지 않는다.
+        if (status < 200 || status >= 300) {
+            response.body().close();
+            if (status == 304) {
+                return new FetchResult(304, null, responseEtag != null ? responseEtag : etag, lastModified);
+            }
+            logger.warn("Failed to fetch URL {} with status {}", uri, status);
+            return new FetchResult(status, null, null, null);
+        }
+        if (!isHtmlContentType(response)) {
+            response.body().close();
+            logger.warn("Skipping URL {} with unsupported content type {}", uri, contentTypeOf(response));
+            return new FetchResult(status, null, null, null);
+        }
+        try (InputStream body = decode(response)) {
+            byte[] bytes = readBounded(body, cutoff);
+            if (bytes == null) {
+                logger.warn("Aborted URL {}: body exceeds {} bytes", uri, maxBodyBytes);
+                return new FetchResult(status, null, null, null);
+            }
+            String html = new String(bytes, charsetOf(response));
+            return new FetchResult(status, html, responseEtag, responseLastModified);
         }
     }
+
+    private boolean isOriginFailure(FetchResult result) {
+        int status = result.getStatusCode();
+        return status == 429 || status >= 500;
+    }
+
+    private void recordFailure(HostState hostState) {
+        if (hostState.breaker.onFailure()) {
+            logger.warn("Circuit opened for host {}", hostState.host);
+            Counter.builder("fetcher.circuit.opened")
+                .tag("site", hostState.site)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("fetcher.requests.rejected")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private long countCircuits(CircuitBreaker.State state) {
+        return hostStates.values().stream()
+            .filter(hostState -> hostState.breaker.getState() == state)
+            .count();
+    }
+
+    private HostState hostState(URI uri, String site) {
+        String host = uri.getHost();
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("URL has no host");
+        }
+        return hostStates.getOrCompute(host.toLowerCase(Locale.ROOT), key -> new HostState(
+            key,
+            site != null ? site : "other",
+            new Semaphore(maxConnectionsPerHost, true),
+            new TokenBucket(ratePermitsPerSecond, rateBurst),
+            new CircuitBreaker(circuitFailureThreshold, circuitOpenDuration)
+        ));
+    }
+
+    // 빈 본문은 압축 헤더가 있어도 그대로 돌려준다 (GZIPInputStream은 빈 입력에서 EOFException)
+    private InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        PushbackInputStream raw = new PushbackInputStream(response.body(), 1);
+        int first = raw.read();
+        if (first == -1) {
+            return raw;
+        }
+        raw.unread(first);
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(raw);
+            case "deflate" -> new InflaterInputStream(raw);
+            default -> raw;
+        };
+    }
+
+    // 상한을 넘으면 null, cutoff 조건을 만족하면 그 지점까지만 읽고 멈춘다 (stream close 시 나머지 다운로드 취소)
+    private byte[] readBounded(InputStream in, BodyCutoff cutoff) throws IOException {
+        byte[] buffer = new byte[16 * 1024];
+        int length = 0;
+        int startScan = 0;
+        int endScan = -1;
+        byte[] chunk = new byte[8 * 1024];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            if (length + (long) read > maxBodyBytes) {
+                return null;
+            }
+            if (length + read > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + read));
+            }
+            System.arraycopy(chunk, 0, buffer, length, read);
+            length += read;
+
+            if (cutoff == null) {
+                continue;
+            }
+            if (endScan < 0) {
+                int start = indexOf(buffer, length, cutoff.getStartMarker(), startScan);
+                if (start < 0) {
+                    startScan = Math.max(0, length - cutoff.getStartMarker().length + 1);
+                    continue;
+                }
+                endScan = start + cutoff.getStartMarker().length;
+            }
+            int end = indexOf(buffer, length, cutoff.getEndMarker(), endScan);
+            if (end >= 0) {
+                return Arrays.copyOf(buffer, end + cutoff.getEndMarker().length);
+            }
+            endScan = Math.max(endScan, length - cutoff.getEndMarker().length + 1);
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private int indexOf(byte[] haystack, int length, byte[] needle, int from) {
+        outer:
+        for (int i = Math.max(0, from); i <= length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private boolean isHtmlContentType(HttpResponse<?> response) {
+        String contentType = contentTypeOf(response).toLowerCase(Locale.ROOT);
+        return contentType.isBlank()
+            || contentType.startsWith("text/html")
+            || contentType.startsWith("application/xhtml+xml")
+            || contentType.startsWith("text/plain");
+    }
+
+    private String contentTypeOf(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type").orElse("");
+    }
+
+    private Charset charsetOf(HttpResponse<?> response) {
+        String contentType = contentTypeOf(response);
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                try {
+                    return Charset.forName(trimmed.substring("charset=".length()).replace("\"", "").trim());
+                } catch (IllegalArgumentException ignored) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private record HostState(String host, String site, Semaphore permits, TokenBucket bucket, CircuitBreaker breaker) {
+    }
 }
@@ -0,0 +1,52 @@
+package kr.co.jobcal.global.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final Clock clock;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, Clock.systemUTC());
+    }
+
+    public TokenBucket(double permitsPerSecond, int burst, Clock clock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.clock = clock;
+        this.lastRefillNanos = nanos(clock.instant());
+    }
+
+    // 토큰을 예약하고 기다려야 하는 시간을 돌려준다. maxWait 안에 토큰이 생기지 않으면 예약하지 않고 null.
+    public synchronized Duration reserve(Duration maxWait) {
+        long now = nanos(clock.instant());
+        // 시계가 뒤로 가면 채우지 않는다
+        tokens = Math.min(capacity, tokens + Math.max(0, now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return Duration.ZERO;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+        if (waitNanos > maxWait.toNanos()) {
+            return null;
+        }
+        tokens -= 1;
+        return Duration.ofNanos(waitNanos);
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
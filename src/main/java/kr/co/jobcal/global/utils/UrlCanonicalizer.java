@@ -0,0 +1,119 @@
+package kr.co.jobcal.global.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class UrlCanonicalizer {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+        "gclid",
+        "fbclid",
+        "igshid",
+        "mc_cid",
+        "mc_eid",
+        "_ga",
+        "ref",
+        "ref_src",
+        "referer_id",
+        "referrer"
+    );
+
+    private UrlCanonicalizer() {}
+
+    // 같은 공고를 가리키는 URL이 하나의 키로 모이도록 정규화 (해석 불가하면 null)
+    public static String canonicalize(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            URI uri = new URI(url.trim());
+            String scheme = uri.getScheme();
+            String host = uri.getHost();
+            if (scheme == null || host == null || host.isBlank()) {
+                return null;
+            }
+            scheme = scheme.toLowerCase(Locale.ROOT);
+
+            StringBuilder builder = new StringBuilder();
+            builder.append(scheme).append("://").append(host.toLowerCase(Locale.ROOT));
+            int port = uri.getPort();
+            if (port != -1 && !isDefaultPort(scheme, port)) {
+                builder.append(':').append(port);
+            }
+            builder.append(normalizePath(uri.getRawPath()));
+
+            String query = normalizeQuery(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                builder.append('?').append(query);
+            }
+            return builder.toString();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    public static String host(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            String host = new URI(url.trim()).getHost();
+            return host == null || host.isBlank() ? null : host.toLowerCase(Locale.ROOT);
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    // canonicalize() 결과에서 호스트만 잘라낸다 (URI를 다시 해석하지 않음)
+    public static String hostOfCanonical(String canonicalUrl) {
+        int start = canonicalUrl.indexOf("://");
+        if (start < 0) {
+            return null;
+        }
+        start += 3;
+        int end = start;
+        while (end < canonicalUrl.length() && canonicalUrl.charAt(end) != '/' && canonicalUrl.charAt(end) != ':') {
+            end++;
+        }
+        return canonicalUrl.substring(start, end);
+    }
+
+    private static boolean isDefaultPort(String scheme, int port) {
+        return ("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443);
+    }
+
+    private static String normalizePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    private static String normalizeQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        List<String> kept = new ArrayList<>();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = (eq >= 0 ? pair.substring(0, eq) : pair).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            kept.add(pair);
+        }
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+}
@@ -1,10 +1,14 @@
 package kr.co.jobcal.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import kr.co.jobcal.dto.ApplicationSummaryResponse;
+import kr.co.jobcal.dto.DeadlineNotificationRow;
 import kr.co.jobcal.entity.Application;
 import kr.co.jobcal.entity.ApplicationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,7 +17,48 @@ import org.springframework.data.repository.query.Param;
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
     @EntityGraph(attributePaths = {"jobPosting"})
-    List<Application> findByUserUserIdOrderByCreatedAtDesc(String userId);
+    List<Application> findByUserUserIdOrderByCreatedAtDescIdDesc(String userId, Limit limit);
+
+    // (created_at, id) 키셋 다음 페이지 (ix_applications_user_created_at)
+    @EntityGraph(attributePaths = {"jobPosting"})
+    @Query("""
+        select a from Application a
+        where a.user.userId = :userId
+          and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))
+        order by a.createdAt desc, a.id desc
+        """)
+    List<Application> findPageAfter(
+        @Param("userId") String userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("""
+        select new kr.co.jobcal.dto.ApplicationSummaryResponse(
+            a.id, a.status, jp.id, jp.companyName, jp.jobTitle, jp.deadline, jp.location, a.createdAt
+        )
+        from Application a join a.jobPosting jp
+        where a.user.userId = :userId
+        order by a.createdAt desc, a.id desc
+        """)
+    List<ApplicationSummaryResponse> findSummaries(@Param("userId") String userId, Limit limit);
+
+    @Query("""
+        select new kr.co.jobcal.dto.ApplicationSummaryResponse(
+            a.id, a.status, jp.id, jp.companyName, jp.jobTitle, jp.deadline, jp.location, a.createdAt
+        )
+        from Application a join a.jobPosting jp
+        where a.user.userId = :userId
+          and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))
+        order by a.createdAt desc, a.id desc
+        """)
+    List<ApplicationSummaryResponse> findSummariesAfter(
+        @Param("userId") String userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     @EntityGraph(attributePaths = {"jobPosting"})
     Optional<Application> findByIdAndUserUserId(Long id, String userId);
@@ -26,11 +71,51 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
         @Param("end") LocalDate end
     );
 
-    @EntityGraph(attributePaths = {"jobPosting"})
-    @Query("select a from Application a join a.jobPosting jp where jp.deadline between :start and :end and a.status not in :excluded")
-    List<Application> findByDeadlineBetweenExcludingStatus(
+    // 지원 id 키셋 페이지. 한 페이지씩 짧은 읽기 트랜잭션으로 끝난다.
+    @Query("""
+        select new kr.co.jobcal.dto.DeadlineNotificationRow(a.id, a.user.userId, jp.companyName, jp.jobTitle, jp.deadline)
+        from Application a join a.jobPosting jp
+        where jp.deadline between :start and :end
+          and a.status not in :excluded
+          and a.id > :afterId
+        order by a.id asc
+        """)
+    List<DeadlineNotificationRow> findDeadlineNotificationRows(
         @Param("start") LocalDate start,
         @Param("end") LocalDate end,
+        @Param("excluded") List<ApplicationStatus> excluded,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    // 알림 일정 갱신용. 기간 조건 없이 진행 중인 지원만 (지원 하나, 공고 하나, 사용자 한 명 단위)
+    @Query("""
+        select new kr.co.jobcal.dto.DeadlineNotificationRow(a.id, a.user.userId, jp.companyName, jp.jobTitle, jp.deadline)
+        from Application a join a.jobPosting jp
+        where a.id = :applicationId and a.status not in :excluded and jp.deadline is not null
+        """)
+    List<DeadlineNotificationRow> findDeadlineNotificationRowsByApplicationId(
+        @Param("applicationId") Long applicationId,
+        @Param("excluded") List<ApplicationStatus> excluded
+    );
+
+    @Query("""
+        select new kr.co.jobcal.dto.DeadlineNotificationRow(a.id, a.user.userId, jp.companyName, jp.jobTitle, jp.deadline)
+        from Application a join a.jobPosting jp
+        where jp.id = :jobPostingId and a.status not in :excluded and jp.deadline is not null
+        """)
+    List<DeadlineNotificationRow> findDeadlineNotificationRowsByJobPostingId(
+        @Param("jobPostingId") Long jobPostingId,
+        @Param("excluded") List<ApplicationStatus> excluded
+    );
+
+    @Query("""
+        select new kr.co.jobcal.dto.DeadlineNotificationRow(a.id, a.user.userId, jp.companyName, jp.jobTitle, jp.deadline)
+        from Application a join a.jobPosting jp
+        where a.user.userId = :userId and a.status not in :excluded and jp.deadline is not null
+        """)
+    List<DeadlineNotificationRow> findDeadlineNotificationRowsByUserId(
+        @Param("userId") String userId,
         @Param("excluded") List<ApplicationStatus> excluded
     );
 }
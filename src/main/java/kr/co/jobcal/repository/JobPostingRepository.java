@@ -1,9 +1,46 @@
 package kr.co.jobcal.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import kr.co.jobcal.dto.JobPostingRefreshTarget;
+import kr.co.jobcal.entity.ApplicationStatus;
 import kr.co.jobcal.entity.JobPosting;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     Optional<JobPosting> findByOriginalUrl(String originalUrl);
+
+    // (deadline, id) 키셋 페이지. 진행 중인 지원이 있고 최근에 확인하지 않은 공고만.
+    @Query("""
+        select new kr.co.jobcal.dto.JobPostingRefreshTarget(jp.id, jp.originalUrl, jp.deadline, coalesce(jp.checkedAt, jp.createdAt))
+        from JobPosting jp
+        where jp.deadline between :start and :end
+          and (jp.deadline > :afterDeadline or (jp.deadline = :afterDeadline and jp.id > :afterId))
+          and (jp.checkedAt is null or jp.checkedAt < :checkedBefore)
+          and exists (
+            select 1 from Application a
+            where a.jobPosting = jp and a.status not in :excluded
+          )
+        order by jp.deadline asc, jp.id asc
+        """)
+    List<JobPostingRefreshTarget> findRefreshTargets(
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
+        @Param("afterDeadline") LocalDate afterDeadline,
+        @Param("afterId") Long afterId,
+        @Param("checkedBefore") LocalDateTime checkedBefore,
+        @Param("excluded") List<ApplicationStatus> excluded,
+        Limit limit
+    );
+
+    // updated_at(@PreUpdate)은 건드리지 않는다
+    @Modifying
+    @Query("update JobPosting jp set jp.checkedAt = :checkedAt where jp.id = :id")
+    int updateCheckedAt(@Param("id") Long id, @Param("checkedAt") LocalDateTime checkedAt);
 }
@@ -0,0 +1,102 @@
+package kr.co.jobcal.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import kr.co.jobcal.entity.NotificationOutbox;
+import kr.co.jobcal.entity.NotificationOutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("select o.dedupeKey from NotificationOutbox o where o.dedupeKey in :keys")
+    List<String> findExistingDedupeKeys(@Param("keys") Collection<String> keys);
+
+    // 발송할 메시지가 있는 사용자 (ix_notification_outbox_due)
+    @Query("""
+        select distinct o.userId from NotificationOutbox o
+        where o.status = :status and o.nextAttemptAt <= :now
+        order by o.userId
+        """)
+    List<String> findDueUserIds(
+        @Param("status") NotificationOutboxStatus status,
+        @Param("now") LocalDateTime now,
+        Limit limit
+    );
+
+    // 조건부 UPDATE로 가져간다. 같은 행은 한 실행만 PENDING -> SENDING으로 바꿀 수 있다.
+    @Transactional
+    @Modifying
+    @Query("""
+        update NotificationOutbox o
+        set o.status = kr.co.jobcal.entity.NotificationOutboxStatus.SENDING,
+            o.claimToken = :token,
+            o.nextAttemptAt = :leaseUntil
+        where o.userId = :userId
+          and o.status = kr.co.jobcal.entity.NotificationOutboxStatus.PENDING
+          and o.nextAttemptAt <= :now
+        """)
+    int claimDueForUser(
+        @Param("userId") String userId,
+        @Param("now") LocalDateTime now,
+        @Param("token") String token,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Query("select o from NotificationOutbox o where o.claimToken = :token order by o.deadline asc, o.id asc")
+    List<NotificationOutbox> findClaimed(@Param("token") String token);
+
+    // 결과 기록도 claimToken이 그대로일 때만 한다. 리스가 만료되어 다른 실행이 다시 가져간 행은 건드리지 않는다.
+    @Transactional
+    @Modifying
+    @Query("""
+        update NotificationOutbox o
+        set o.status = kr.co.jobcal.entity.NotificationOutboxStatus.SENT,
+            o.claimToken = null,
+            o.sentAt = :sentAt,
+            o.lastError = null
+        where o.id in :ids and o.claimToken = :token
+        """)
+    int markSent(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("sentAt") LocalDateTime sentAt
+    );
+
+    // status는 PENDING(재시도) 또는 FAILED
+    @Transactional
+    @Modifying
+    @Query("""
+        update NotificationOutbox o
+        set o.status = :status,
+            o.claimToken = null,
+            o.attempts = o.attempts + 1,
+            o.nextAttemptAt = :nextAttemptAt,
+            o.lastError = :lastError
+        where o.id in :ids and o.claimToken = :token
+        """)
+    int markAttemptFailed(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("status") NotificationOutboxStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("lastError") String lastError
+    );
+
+    // 발송 도중 죽은 실행이 잡고 있던 행을 되돌린다
+    @Transactional
+    @Modifying
+    @Query("""
+        update NotificationOutbox o
+        set o.status = kr.co.jobcal.entity.NotificationOutboxStatus.PENDING,
+            o.claimToken = null
+        where o.status = kr.co.jobcal.entity.NotificationOutboxStatus.SENDING
+          and o.nextAttemptAt <= :now
+        """)
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+package kr.co.jobcal.repository;
+
+import kr.co.jobcal.entity.NotificationPreference;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, String> {
+}
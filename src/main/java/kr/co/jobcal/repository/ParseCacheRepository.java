@@ -0,0 +1,25 @@
+package kr.co.jobcal.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import kr.co.jobcal.entity.ParseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ParseCacheRepository extends JpaRepository<ParseCacheEntry, Long> {
+    Optional<ParseCacheEntry> findByUrlHash(String urlHash);
+
+    // ix_parse_cache_fetched_at 범위 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ParseCacheEntry e where e.fetchedAt < :threshold")
+    int deleteByFetchedAtBefore(@Param("threshold") LocalDateTime threshold);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ParseCacheEntry e where e.urlHash = :urlHash")
+    int deleteByUrlHash(@Param("urlHash") String urlHash);
+}
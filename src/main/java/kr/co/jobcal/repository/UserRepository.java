@@ -1,11 +1,17 @@
 package kr.co.jobcal.repository;
 
+import java.util.List;
 import java.util.Optional;
 import kr.co.jobcal.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     Optional<User> findByProviderSubject(String providerSubject);
-    boolean existsByUserId(String userId);
+
+    // base 자체와 "base_..." 형태의 id를 한 번의 인덱스 범위 조회로 가져온다 (이스케이프 문자 '!')
+    @Query("select u.userId from User u where u.userId = :base or u.userId like :prefixPattern escape '!'")
+    List<String> findUserIdsByBase(@Param("base") String base, @Param("prefixPattern") String prefixPattern);
 }
@@ -124,7 +124,7 @@ public class AiDescriptionFormatter {
         return null;
     }
 
-    private boolean isContentPreserved(String original, String formatted) {
+    boolean isContentPreserved(String original, String formatted) {
         String a = canonicalize(original);
         String b = canonicalize(formatted);
         if (a.isBlank() || b.isBlank()) {
@@ -0,0 +1,5 @@
+package kr.co.jobcal.service;
+
+// 지원이 생성/수정/삭제됐을 때 발행한다 (알림 일정 갱신용)
+public record ApplicationChangedEvent(Long applicationId) {
+}
@@ -2,8 +2,13 @@ package kr.co.jobcal.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import kr.co.jobcal.dto.ApplicationCreateRequest;
+import kr.co.jobcal.dto.ApplicationCursor;
+import kr.co.jobcal.dto.ApplicationPage;
+import kr.co.jobcal.dto.ApplicationSummaryResponse;
 import kr.co.jobcal.dto.ApplicationUpdateRequest;
 import kr.co.jobcal.entity.Application;
 import kr.co.jobcal.entity.JobPosting;
@@ -11,6 +16,8 @@ import kr.co.jobcal.entity.User;
 import kr.co.jobcal.repository.ApplicationRepository;
 import kr.co.jobcal.repository.JobPostingRepository;
 import kr.co.jobcal.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,15 +27,18 @@ public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApplicationService(
         ApplicationRepository applicationRepository,
         UserRepository userRepository,
-        JobPostingRepository jobPostingRepository
+        JobPostingRepository jobPostingRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
         this.jobPostingRepository = jobPostingRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -43,11 +53,43 @@ public class ApplicationService {
         application.setJobPosting(jobPosting);
         application.setStatus(request.getStatus());
         application.setMemo(request.getMemo());
-        return applicationRepository.save(application);
+        Application saved = applicationRepository.save(application);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(saved.getId()));
+        return saved;
     }
 
-    public List<Application> getUserApplications(String userId) {
-        return applicationRepository.findByUserUserIdOrderByCreatedAtDesc(userId);
+    // 최신순 한 페이지. 다음 페이지 유무를 알기 위해 size + 1개를 읽는다.
+    public ApplicationPage<Application> getUserApplications(String userId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<Application> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = applicationRepository.findByUserUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            ApplicationCursor after = ApplicationCursor.decode(cursor);
+            rows = applicationRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
+        }
+        return toPage(rows, size, application -> new ApplicationCursor(application.getCreatedAt(), application.getId()));
+    }
+
+    // 목록 화면용 요약 페이지 (커서는 getUserApplications와 호환)
+    public ApplicationPage<ApplicationSummaryResponse> getUserApplicationSummaries(String userId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<ApplicationSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = applicationRepository.findSummaries(userId, limit);
+        } else {
+            ApplicationCursor after = ApplicationCursor.decode(cursor);
+            rows = applicationRepository.findSummariesAfter(userId, after.createdAt(), after.id(), limit);
+        }
+        return toPage(rows, size, summary -> new ApplicationCursor(summary.createdAt(), summary.id()));
+    }
+
+    private <T> ApplicationPage<T> toPage(List<T> rows, int size, Function<T, ApplicationCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new ApplicationPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new ApplicationPage<>(items, cursorOf.apply(items.get(items.size() - 1)).encode());
     }
 
     public Optional<Application> getApplication(Long applicationId, String userId) {
@@ -68,10 +110,17 @@ public class ApplicationService {
         if (request.getMemo() != null) {
             application.setMemo(request.getMemo());
         }
+        JobPosting jobPosting = application.getJobPosting();
+        boolean deadlineChanged = request.getDeadline() != null && !Objects.equals(jobPosting.getDeadline(), request.getDeadline());
         if (request.getDeadline() != null) {
-            application.getJobPosting().setDeadline(request.getDeadline());
+            jobPosting.setDeadline(request.getDeadline());
         }
-        return Optional.of(applicationRepository.save(application));
+        Application saved = applicationRepository.save(application);
+        // 마감일은 공고에 있어서 같은 공고를 추적하는 다른 지원도 다시 계산해야 한다
+        eventPublisher.publishEvent(deadlineChanged
+            ? new JobPostingDeadlineChangedEvent(jobPosting.getId())
+            : new ApplicationChangedEvent(saved.getId()));
+        return Optional.of(saved);
     }
 
     public List<Application> getApplicationsByDateRange(String userId, LocalDate startDate, LocalDate endDate) {
@@ -85,6 +134,7 @@ public class ApplicationService {
             return false;
         }
         applicationRepository.delete(optional.get());
+        eventPublisher.publishEvent(new ApplicationChangedEvent(applicationId));
         return true;
     }
 }
@@ -1,30 +1,109 @@
 package kr.co.jobcal.service;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import kr.co.jobcal.entity.User;
 import kr.co.jobcal.global.oauth.AuthClaimsExtractor;
+import kr.co.jobcal.global.utils.BoundedTtlCache;
+import kr.co.jobcal.global.utils.ContentHash;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class CurrentUserProvider {
 
+    // upsertFromClaims 결과에 영향을 주는 클레임
+    private static final List<String> IDENTITY_CLAIMS = List.of("email", "username", "cognito:username", "preferred_username");
+
     private final UserService userService;
+    // (issuer, sub, 이메일 클레임 지문) -> userId. 클레임이 바뀌면 키가 바뀌어 다시 upsert 한다.
+    private final BoundedTtlCache<String, String> userIdCache;
 
-    public CurrentUserProvider(UserService userService) {
+    public CurrentUserProvider(
+        UserService userService,
+        MeterRegistry meterRegistry,
+        @Value("${app.user-cache.max-size:10000}") int cacheMaxSize,
+        @Value("${app.user-cache.ttl:10m}") Duration cacheTtl
+    ) {
         this.userService = userService;
+        this.userIdCache = new BoundedTtlCache<>(cacheMaxSize, cacheTtl);
+        registerCacheMetrics(meterRegistry);
     }
 
-    public String getCurrentUserId() {
+    public boolean isAuthenticated() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+        return authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    public String getCurrentUserId() {
+        if (!isAuthenticated()) {
             throw new IllegalStateException("Unauthenticated request");
         }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         Map<String, Object> claims = AuthClaimsExtractor.extractClaims(authentication);
+        String cacheKey = cacheKey(claims);
+        String cached = userIdCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userService.upsertFromClaims(claims);
+        userIdCache.put(cacheKey, user.getUserId());
         return user.getUserId();
     }
+
+    // 무효화는 이 인스턴스에만 적용된다. 다른 인스턴스는 TTL 안에 정리된다.
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        userIdCache.invalidateIf(userId::equals);
+    }
+
+    public void invalidateAll() {
+        userIdCache.invalidateAll();
+    }
+
+    // 커밋 뒤에 지워야 롤백되기 전 값이 다시 캐시에 올라가지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private String cacheKey(Map<String, Object> claims) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (String name : IDENTITY_CLAIMS) {
+            fingerprint.append(Objects.toString(claims.get(name), "")).append('\u0000');
+        }
+        return Objects.toString(claims.get("iss"), "")
+            + '\u0000' + Objects.toString(claims.get("sub"), "")
+            + '\u0000' + ContentHash.sha256Hex(fingerprint.toString());
+    }
+
+    private void registerCacheMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cache.gets", userIdCache, BoundedTtlCache::hitCount)
+            .tag("cache", "users")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", userIdCache, BoundedTtlCache::missCount)
+            .tag("cache", "users")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", userIdCache, BoundedTtlCache::evictionCount)
+            .tag("cache", "users")
+            .register(meterRegistry);
+        Gauge.builder("cache.size", userIdCache, BoundedTtlCache::size)
+            .tag("cache", "users")
+            .register(meterRegistry);
+    }
 }
@@ -0,0 +1,200 @@
+package kr.co.jobcal.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import kr.co.jobcal.dto.DeadlineNotificationRow;
+import kr.co.jobcal.dto.DeadlineReminder;
+import kr.co.jobcal.dto.NotificationPreferenceResponse;
+import kr.co.jobcal.global.utils.HashedTimingWheel;
+import kr.co.jobcal.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 사용자별 알림 시각(마감 N일 전, 현지 시각)에 맞춰 outbox에 적재한다.
+// 메모리의 타이밍 휠에 일정을 올려 두고, 시작할 때와 매일 한 번 DB에서 다시 채운다.
+// 지원/마감/설정 변경은 이벤트로 해당 지원만 다시 계산한다. 중복 적재는 outbox 유니크 키가 막는다.
+@Service
+public class DeadlineReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+
+    private final NotificationService notificationService;
+    private final NotificationPreferenceService preferenceService;
+    private final ApplicationRepository applicationRepository;
+    private final HashedTimingWheel<ReminderKey, DeadlineReminder> wheel;
+    private final boolean enabled;
+    private final Duration tick;
+    private final Duration catchUp;
+    private final Counter firedCounter;
+    private final Timer seedTimer;
+
+    public DeadlineReminderScheduler(
+        NotificationService notificationService,
+        NotificationPreferenceService preferenceService,
+        ApplicationRepository applicationRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.reminder.enabled:true}") boolean enabled,
+        @Value("${app.reminder.tick:PT1M}") Duration tick,
+        @Value("${app.reminder.catch-up:PT6H}") Duration catchUp
+    ) {
+        this.notificationService = notificationService;
+        this.preferenceService = preferenceService;
+        this.applicationRepository = applicationRepository;
+        this.enabled = enabled;
+        this.tick = tick;
+        this.catchUp = catchUp;
+        // 한 바퀴 = 하루. 더 먼 일정은 바퀴 수만큼 슬롯에 남는다.
+        int wheelSize = (int) Math.max(64, Duration.ofDays(1).dividedBy(tick));
+        this.wheel = new HashedTimingWheel<>(tick, wheelSize, Instant.now());
+        Gauge.builder("reminder.wheel.size", wheel, HashedTimingWheel::size)
+            .register(meterRegistry);
+        this.firedCounter = Counter.builder("reminder.fired")
+            .register(meterRegistry);
+        this.seedTimer = Timer.builder("reminder.seed")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        reseed();
+    }
+
+    // 휠에는 앞으로 MAX_LEAD_DAYS + 1일 안에 마감인 지원만 올린다. 범위가 하루씩 밀리므로 매일 다시 채운다.
+    @Scheduled(cron = "${app.reminder.reseed-cron:0 5 0 * * *}")
+    public void reseed() {
+        if (!enabled) {
+            return;
+        }
+        seedTimer.record(() -> {
+            // 시간대 차이를 감안해 앞뒤로 하루씩 여유를 둔다
+            LocalDate start = LocalDate.now().minusDays(1);
+            LocalDate end = LocalDate.now().plusDays(NotificationPreferenceService.MAX_LEAD_DAYS + 1);
+            notificationService.forEachUpcomingPage(start, end, this::scheduleAll);
+        });
+        logger.info("Deadline reminder wheel seeded with {} reminders", wheel.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminder.tick:PT1M}")
+    public void fireDue() {
+        if (!enabled) {
+            return;
+        }
+        List<DeadlineReminder> due = wheel.advance(Instant.now());
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            notificationService.enqueue(due);
+            firedCounter.increment(due.size());
+        } catch (RuntimeException e) {
+            // 다음 tick에 다시 시도한다
+            logger.warn("Failed to enqueue {} deadline reminders", due.size(), e);
+            Instant retryAt = Instant.now().plus(tick);
+            for (DeadlineReminder reminder : due) {
+                wheel.schedule(ReminderKey.of(reminder), retryAt, reminder);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        cancelApplication(event.applicationId());
+        scheduleAll(applicationRepository.findDeadlineNotificationRowsByApplicationId(
+            event.applicationId(),
+            NotificationService.CLOSED_STATUSES
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostingDeadlineChanged(JobPostingDeadlineChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        reschedule(applicationRepository.findDeadlineNotificationRowsByJobPostingId(
+            event.jobPostingId(),
+            NotificationService.CLOSED_STATUSES
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferenceChanged(NotificationPreferenceChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        reschedule(applicationRepository.findDeadlineNotificationRowsByUserId(
+            event.userId(),
+            NotificationService.CLOSED_STATUSES
+        ));
+    }
+
+    private void reschedule(List<DeadlineNotificationRow> rows) {
+        for (DeadlineNotificationRow row : rows) {
+            cancelApplication(row.applicationId());
+        }
+        scheduleAll(rows);
+    }
+
+    private void cancelApplication(Long applicationId) {
+        for (int days = 0; days <= NotificationPreferenceService.MAX_LEAD_DAYS; days++) {
+            wheel.cancel(new ReminderKey(applicationId, days));
+        }
+    }
+
+    private void scheduleAll(List<DeadlineNotificationRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<String, NotificationPreferenceResponse> preferences = preferenceService.getPreferences(
+            rows.stream().map(DeadlineNotificationRow::userId).distinct().toList()
+        );
+        Instant now = Instant.now();
+        Instant horizon = now.plus(Duration.ofDays(NotificationPreferenceService.MAX_LEAD_DAYS + 1));
+        for (DeadlineNotificationRow row : rows) {
+            NotificationPreferenceResponse preference = preferences.get(row.userId());
+            for (int leadDays : preference.leadDays()) {
+                Instant fireAt = fireAt(row, leadDays, preference);
+                // 이미 지난 알림은 catch-up 범위 안에서만 바로 보낸다 (재시작 직후 등)
+                if (fireAt.isBefore(now.minus(catchUp)) || fireAt.isAfter(horizon)) {
+                    continue;
+                }
+                DeadlineReminder reminder = new DeadlineReminder(row, leadDays);
+                wheel.schedule(ReminderKey.of(reminder), fireAt, reminder);
+            }
+        }
+    }
+
+    // 같은 시각을 고른 사용자가 한 분에 몰리지 않도록 사용자마다 분을 고정해 흩뿌린다
+    private Instant fireAt(DeadlineNotificationRow row, int leadDays, NotificationPreferenceResponse preference) {
+        int minute = Math.floorMod(row.userId().hashCode(), 60);
+        ZonedDateTime local = row.deadline()
+            .minusDays(leadDays)
+            .atTime(preference.notifyHour(), minute)
+            .atZone(ZoneId.of(preference.zoneId()));
+        return local.toInstant();
+    }
+
+    private record ReminderKey(Long applicationId, int leadDays) {
+
+        private static ReminderKey of(DeadlineReminder reminder) {
+            return new ReminderKey(reminder.row().applicationId(), reminder.leadDays());
+        }
+    }
+}
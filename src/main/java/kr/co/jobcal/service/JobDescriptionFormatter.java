@@ -1,14 +1,18 @@
 package kr.co.jobcal.service;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JobDescriptionFormatter {
 
-    private static final List<String> SECTION_HINTS = List.of(
+    private static final List<String> DEFAULT_SECTION_HINTS = List.of(
         "포지션 상세",
         "이런 일을 해요",
         "이런 분과 함께하고 싶어요",
@@ -23,81 +27,99 @@ public class JobDescriptionFormatter {
         "지원 시 유의사항"
     );
 
+    // "주요업무•", "자격요건•"처럼 붙어 있는 불릿
+    private static final String INLINE_BULLET = "(?<=[가-힣A-Za-z0-9)])\\s*[•·]\\s*";
+    private static final Pattern HEADING_NOISE = Pattern.compile("[!?:]|🙋🏻‍♀️|🙆🏻‍♀️|🙆🏻‍♂️");
+    private static final Pattern BULLET_PREFIX = Pattern.compile("^[\\-•·]\\s*");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[!?:\\s]+$");
+
+    private final Pattern sectionHint;
+    // 불릿 분리와 헤딩 앞 줄바꿈을 한 번에 처리 (group 1 = 불릿)
+    private final Pattern sectionBreak;
+
+    public JobDescriptionFormatter() {
+        this(DEFAULT_SECTION_HINTS);
+    }
+
+    @Autowired
+    public JobDescriptionFormatter(@Value("${app.formatter.section-hints:}") List<String> sectionHints) {
+        List<String> hints = sectionHints == null || sectionHints.stream().allMatch(String::isBlank)
+            ? DEFAULT_SECTION_HINTS
+            : sectionHints.stream().map(String::trim).filter(hint -> !hint.isEmpty()).toList();
+        // 긴 힌트부터 시도해서 겹치는 힌트가 있어도 가장 긴 쪽이 잡히게 한다
+        String alternation = hints.stream()
+            .distinct()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|"));
+        this.sectionHint = Pattern.compile(alternation);
+        this.sectionBreak = Pattern.compile("(" + INLINE_BULLET + ")|(?<![\\r\\n])(?:" + alternation + ")");
+    }
+
     public String toMarkdown(String raw) {
         if (raw == null || raw.isBlank()) {
             return raw;
         }
 
         String normalized = normalizeForSections(raw);
-        String[] lines = normalized.split("\n");
-        List<String> cleaned = new ArrayList<>();
-        for (String line : lines) {
-            String trimmed = line.trim();
-            if (!trimmed.isBlank()) {
-                cleaned.add(trimmed);
+        StringBuilder out = new StringBuilder(normalized.length() + 64);
+        int lineStart = 0;
+        int length = normalized.length();
+        while (lineStart <= length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && normalized.charAt(lineEnd) != '\n' && normalized.charAt(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            String line = normalized.substring(lineStart, lineEnd).trim();
+            lineStart = lineEnd + 1;
+            if (line.isEmpty()) {
+                continue;
             }
-        }
-
-        if (cleaned.isEmpty()) {
-            return raw;
-        }
 
-        StringBuilder out = new StringBuilder();
-        for (String line : cleaned) {
             if (isSectionHeading(line)) {
                 if (out.length() > 0) {
                     out.append("\n\n");
                 }
-                out.append("## **").append(stripTrailingPunctuation(line)).append("**");
+                out.append("## **").append(TRAILING_PUNCTUATION.matcher(line).replaceFirst("").trim()).append("**");
                 continue;
             }
 
             if (out.length() > 0) {
                 out.append('\n');
             }
-            out.append("- ").append(stripBulletPrefix(line));
+            out.append("- ").append(BULLET_PREFIX.matcher(line).replaceFirst("").trim());
         }
 
+        if (out.length() == 0) {
+            return raw;
+        }
         return out.toString().trim();
     }
 
     private boolean isSectionHeading(String line) {
-        String normalized = line
-            .replace("!", "")
-            .replace("?", "")
-            .replace(":", "")
-            .replace("🙋🏻‍♀️", "")
-            .replace("🙆🏻‍♀️", "")
-            .replace("🙆🏻‍♂️", "")
-            .trim();
-        for (String hint : SECTION_HINTS) {
-            if (normalized.contains(hint)) {
-                return true;
-            }
+        if (sectionHint.matcher(line).find()) {
+            return true;
         }
-        return false;
-    }
-
-    private String stripBulletPrefix(String line) {
-        return line.replaceFirst("^[\\-•·]\\s*", "").trim();
-    }
-
-    private String stripTrailingPunctuation(String line) {
-        return line.replaceAll("[!?:\\s]+$", "").trim();
+        // 힌트 사이에 끼어 있는 기호/이모지를 지웠을 때만 새로 드러나는 경우
+        Matcher noise = HEADING_NOISE.matcher(line);
+        return noise.find() && sectionHint.matcher(noise.replaceAll("")).find();
     }
 
+    // 불릿 분리, 헤딩 앞 줄바꿈 강제 (문장 중간 붙음 방지)
     private String normalizeForSections(String raw) {
-        String text = raw.replace("\r\n", "\n").replace('\r', '\n');
-
-        // "주요업무•", "자격요건•"처럼 붙어 있는 케이스 분리
-        text = text.replaceAll("(?<=[가-힣A-Za-z0-9)])\\s*[•·]\\s*", "\n• ");
-
-        // 섹션 헤딩 앞에 줄바꿈 강제 (문장 중간 붙음 방지)
-        for (String hint : SECTION_HINTS) {
-            String pattern = "(?<!\\n)" + Pattern.quote(hint);
-            text = text.replaceAll(pattern, "\n" + hint);
+        Matcher matcher = sectionBreak.matcher(raw);
+        StringBuilder text = new StringBuilder(raw.length() + 32);
+        int last = 0;
+        while (matcher.find()) {
+            text.append(raw, last, matcher.start());
+            if (matcher.group(1) != null) {
+                text.append("\n• ");
+            } else {
+                text.append('\n').append(raw, matcher.start(), matcher.end());
+            }
+            last = matcher.end();
         }
-
-        return text.trim();
+        text.append(raw, last, raw.length());
+        return text.toString();
     }
 }
@@ -0,0 +1,5 @@
+package kr.co.jobcal.service;
+
+// 공고 마감일이 바뀌었을 때 발행한다 (알림 일정 갱신용)
+public record JobPostingDeadlineChangedEvent(Long jobPostingId) {
+}
@@ -0,0 +1,162 @@
+package kr.co.jobcal.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.jobcal.dto.JobPostingRefreshTarget;
+import kr.co.jobcal.entity.ApplicationStatus;
+import kr.co.jobcal.global.utils.TokenBucket;
+import kr.co.jobcal.repository.JobPostingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 진행 중인 지원이 걸린 공고를 마감이 가까운 순서로 다시 확인한다 (마감 변경, 공고 내용 변경 반영)
+@Service
+public class JobPostingRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobPostingRefreshService.class);
+    private static final List<ApplicationStatus> CLOSED_STATUSES = List.of(ApplicationStatus.REJECTED, ApplicationStatus.ACCEPTED);
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobPostingService jobPostingService;
+    private final ParserService parserService;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final Duration minInterval;
+    private final int pageSize;
+    private final int maxPerRun;
+    private final TokenBucket rateLimiter;
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+    private final Timer runTimer;
+
+    public JobPostingRefreshService(
+        JobPostingRepository jobPostingRepository,
+        JobPostingService jobPostingService,
+        ParserService parserService,
+        MeterRegistry meterRegistry,
+        @Value("${app.refresh.enabled:true}") boolean enabled,
+        @Value("${app.refresh.horizon-days:14}") int horizonDays,
+        @Value("${app.refresh.min-interval:6h}") Duration minInterval,
+        @Value("${app.refresh.page-size:50}") int pageSize,
+        @Value("${app.refresh.max-per-run:500}") int maxPerRun,
+        @Value("${app.refresh.permits-per-second:2}") double permitsPerSecond
+    ) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobPostingService = jobPostingService;
+        this.parserService = parserService;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.minInterval = minInterval;
+        this.pageSize = pageSize;
+        this.maxPerRun = maxPerRun;
+        this.rateLimiter = new TokenBucket(permitsPerSecond, 1);
+        this.refreshedCounter = Counter.builder("posting.refresh.processed")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("posting.refresh.processed")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("posting.refresh.lag")
+            .description("Time since a posting was last checked when the refresh job picked it up")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("posting.refresh.run")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.refresh.initial-delay:PT5M}",
+        fixedDelayString = "${app.refresh.interval:PT30M}"
+    )
+    public void refreshTrackedPostings() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(this::refreshPages);
+    }
+
+    private void refreshPages() {
+        LocalDate today = LocalDate.now();
+        LocalDate end = today.plusDays(horizonDays);
+        LocalDateTime checkedBefore = LocalDateTime.now().minus(minInterval);
+
+        // 키셋 커서: (deadline, id)
+        LocalDate afterDeadline = today.minusDays(1);
+        Long afterId = 0L;
+        int processed = 0;
+        while (processed < maxPerRun) {
+            List<JobPostingRefreshTarget> page = jobPostingRepository.findRefreshTargets(
+                today,
+                end,
+                afterDeadline,
+                afterId,
+                checkedBefore,
+                CLOSED_STATUSES,
+                Limit.of(Math.min(pageSize, maxPerRun - processed))
+            );
+            if (page.isEmpty()) {
+                break;
+            }
+            for (JobPostingRefreshTarget target : page) {
+                if (!acquirePermit()) {
+                    logger.info("Posting refresh interrupted after {} postings", processed);
+                    return;
+                }
+                refreshOne(target);
+                processed++;
+            }
+            JobPostingRefreshTarget last = page.get(page.size() - 1);
+            afterDeadline = last.deadline();
+            afterId = last.id();
+        }
+        if (processed > 0) {
+            logger.info("Refreshed {} tracked job postings", processed);
+        }
+    }
+
+    private void refreshOne(JobPostingRefreshTarget target) {
+        if (target.lastCheckedAt() != null) {
+            lagTimer.record(Duration.between(target.lastCheckedAt(), LocalDateTime.now()));
+        }
+        try {
+            ParserService.ParserResult result = parserService.refresh(target.originalUrl());
+            if (result.isSuccess() && result.getData() != null) {
+                // 같은 내용이면 createOrUpdate가 검증자만 갱신한다
+                jobPostingService.createOrUpdate(result.getData());
+                refreshedCounter.increment();
+            } else {
+                failedCounter.increment();
+                logger.debug("Posting refresh failed for {}: {}", target.originalUrl(), result.getError());
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            logger.warn("Posting refresh failed for {}", target.originalUrl(), e);
+        } finally {
+            // 실패한 공고도 다음 주기까지는 다시 잡지 않는다
+            jobPostingService.markChecked(target.id(), LocalDateTime.now());
+        }
+    }
+
+    private boolean acquirePermit() {
+        Duration wait = rateLimiter.reserve(Duration.ofDays(1));
+        if (wait == null || wait.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package kr.co.jobcal.service;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
 import kr.co.jobcal.dto.JobPostingCreateRequest;
 import kr.co.jobcal.entity.JobPosting;
 import kr.co.jobcal.repository.JobPostingRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +14,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class JobPostingService {
 
     private final JobPostingRepository jobPostingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JobPostingService(JobPostingRepository jobPostingRepository) {
+    public JobPostingService(JobPostingRepository jobPostingRepository, ApplicationEventPublisher eventPublisher) {
         this.jobPostingRepository = jobPostingRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -21,7 +26,18 @@ public class JobPostingService {
         Optional<JobPosting> existing = jobPostingRepository.findByOriginalUrl(request.getOriginalUrl());
         if (existing.isPresent()) {
             JobPosting jobPosting = existing.get();
+            if (isUnchanged(jobPosting, request)) {
+                // 내용이 같으면 검증자만 갱신한다 (@DynamicUpdate로 바뀐 컬럼만 UPDATE)
+                if (request.getEtag() != null || request.getLastModified() != null) {
+                    jobPosting.setEtag(request.getEtag());
+                    jobPosting.setLastModified(request.getLastModified());
+                }
+                return jobPosting;
+            }
             if (request.getDeadline() != null) {
+                if (!Objects.equals(jobPosting.getDeadline(), request.getDeadline())) {
+                    eventPublisher.publishEvent(new JobPostingDeadlineChangedEvent(jobPosting.getId()));
+                }
                 jobPosting.setDeadline(request.getDeadline());
                 jobPosting.setCompanyName(request.getCompanyName());
                 jobPosting.setJobTitle(request.getJobTitle());
@@ -37,6 +53,13 @@ public class JobPostingService {
                 if (request.getParsedData() != null) {
                     jobPosting.setParsedData(request.getParsedData());
                 }
+                if (request.getEtag() != null || request.getLastModified() != null) {
+                    jobPosting.setEtag(request.getEtag());
+                    jobPosting.setLastModified(request.getLastModified());
+                }
+                if (request.getContentHash() != null) {
+                    jobPosting.setContentHash(request.getContentHash());
+                }
             }
             return jobPostingRepository.save(jobPosting);
         }
@@ -50,9 +73,27 @@ public class JobPostingService {
         jobPosting.setDescription(request.getDescription());
         jobPosting.setDescriptionRaw(request.getDescriptionRaw());
         jobPosting.setLocation(request.getLocation());
+        jobPosting.setEtag(request.getEtag());
+        jobPosting.setLastModified(request.getLastModified());
+        jobPosting.setContentHash(request.getContentHash());
         return jobPostingRepository.save(jobPosting);
     }
 
+    private boolean isUnchanged(JobPosting jobPosting, JobPostingCreateRequest request) {
+        return request.getContentHash() != null
+            && request.getContentHash().equals(jobPosting.getContentHash())
+            && Objects.equals(request.getDeadline(), jobPosting.getDeadline());
+    }
+
+    @Transactional
+    public void markChecked(Long id, LocalDateTime checkedAt) {
+        jobPostingRepository.updateCheckedAt(id, checkedAt);
+    }
+
+    public Optional<JobPosting> findByOriginalUrl(String originalUrl) {
+        return jobPostingRepository.findByOriginalUrl(originalUrl);
+    }
+
     public Optional<JobPosting> getById(Long id) {
         return jobPostingRepository.findById(id);
     }
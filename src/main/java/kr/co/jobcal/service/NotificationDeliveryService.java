@@ -0,0 +1,195 @@
+package kr.co.jobcal.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import kr.co.jobcal.dto.NotificationDigest;
+import kr.co.jobcal.entity.NotificationOutbox;
+import kr.co.jobcal.entity.NotificationOutboxStatus;
+import kr.co.jobcal.entity.User;
+import kr.co.jobcal.repository.NotificationOutboxRepository;
+import kr.co.jobcal.repository.UserRepository;
+import kr.co.jobcal.service.notification.NotificationChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// notification_outbox를 비운다. 사용자별로 묶어 한 번에 보내고, 실패하면 지수 백오프로 다시 시도한다.
+// 보내기 전에 행을 SENDING으로 가져가므로 여러 인스턴스가 돌아도 같은 메시지를 함께 보내지 않는다.
+@Service
+public class NotificationDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDeliveryService.class);
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final NotificationChannel channel;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public NotificationDeliveryService(
+        NotificationOutboxRepository outboxRepository,
+        UserRepository userRepository,
+        NotificationChannel channel,
+        MeterRegistry meterRegistry,
+        @Value("${app.notification.delivery.enabled:true}") boolean enabled,
+        @Value("${app.notification.delivery.batch-size:100}") int batchSize,
+        @Value("${app.notification.delivery.max-attempts:6}") int maxAttempts,
+        @Value("${app.notification.delivery.initial-backoff:1m}") Duration initialBackoff,
+        @Value("${app.notification.delivery.max-backoff:6h}") Duration maxBackoff,
+        @Value("${app.notification.delivery.lease:10m}") Duration lease
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.channel = channel;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.sentCounter = Counter.builder("notification.delivery.messages")
+            .tag("channel", channel.name())
+            .tag("result", "sent")
+            .register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.delivery.messages")
+            .tag("channel", channel.name())
+            .tag("result", "retry")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.delivery.messages")
+            .tag("channel", channel.name())
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.delivery.run")
+            .tag("channel", channel.name())
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.notification.delivery.initial-delay:PT1M}",
+        fixedDelayString = "${app.notification.delivery.interval:PT1M}"
+    )
+    public void deliverPending() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(this::deliverDue);
+    }
+
+    // 한 번에 batchSize명까지. 남은 사용자는 다음 주기에 처리한다.
+    private void deliverDue() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseExpiredClaims(now);
+        if (released > 0) {
+            logger.warn("Released {} notification(s) whose delivery lease expired", released);
+        }
+        List<String> userIds = outboxRepository.findDueUserIds(NotificationOutboxStatus.PENDING, now, Limit.of(batchSize));
+        for (String userId : userIds) {
+            // 한 사용자에서 난 오류가 나머지 사용자 발송을 막지 않게 한다. 가져간 행은 리스가 끝나면 되돌아간다.
+            try {
+                deliverTo(userId, now);
+            } catch (RuntimeException e) {
+                logger.error("Notification delivery run failed for {}", userId, e);
+            }
+        }
+    }
+
+    private void deliverTo(String userId, LocalDateTime now) {
+        String token = UUID.randomUUID().toString();
+        // 0이면 다른 인스턴스가 먼저 가져갔다
+        if (outboxRepository.claimDueForUser(userId, now, token, now.plus(lease)) == 0) {
+            return;
+        }
+        List<NotificationOutbox> messages = outboxRepository.findClaimed(token);
+        if (!messages.isEmpty()) {
+            deliver(userId, token, messages);
+        }
+    }
+
+    private void deliver(String userId, String token, List<NotificationOutbox> messages) {
+        NotificationDigest digest = new NotificationDigest(
+            userId,
+            userRepository.findById(userId).map(User::getEmail).orElse(null),
+            messages.stream()
+                .map(message -> new NotificationDigest.Item(
+                    message.getApplicationId(),
+                    message.getCompanyName(),
+                    message.getJobTitle(),
+                    message.getDeadline(),
+                    message.getLeadDays()
+                ))
+                .toList()
+        );
+
+        // 발송 중에는 트랜잭션을 잡지 않는다. 보낸 뒤의 기록 실패는 재시도로 바꾸지 않는다(중복 발송 방지).
+        try {
+            channel.send(digest);
+        } catch (RuntimeException e) {
+            logger.warn("Notification delivery to {} via {} failed", userId, channel.name(), e);
+            markFailedAttempt(userId, token, messages, e);
+            return;
+        }
+        List<Long> ids = messages.stream().map(NotificationOutbox::getId).toList();
+        int updated = outboxRepository.markSent(ids, token, LocalDateTime.now());
+        sentCounter.increment(updated);
+        warnIfClaimLost(userId, updated, ids.size());
+    }
+
+    // 행마다 시도 횟수가 다를 수 있으므로 다음 시도 횟수별로 묶어서 기록한다
+    private void markFailedAttempt(String userId, String token, List<NotificationOutbox> messages, RuntimeException error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = String.valueOf(error.getMessage());
+        String lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        Map<Integer, List<Long>> idsByAttempts = messages.stream().collect(Collectors.groupingBy(
+            outbox -> outbox.getAttempts() + 1,
+            TreeMap::new,
+            Collectors.mapping(NotificationOutbox::getId, Collectors.toList())
+        ));
+        idsByAttempts.forEach((attempts, ids) -> {
+            int updated;
+            if (attempts >= maxAttempts) {
+                updated = outboxRepository.markAttemptFailed(ids, token, NotificationOutboxStatus.FAILED, now, lastError);
+                failedCounter.increment(updated);
+            } else {
+                updated = outboxRepository.markAttemptFailed(
+                    ids, token, NotificationOutboxStatus.PENDING, now.plus(backoff(attempts)), lastError
+                );
+                retriedCounter.increment(updated);
+            }
+            warnIfClaimLost(userId, updated, ids.size());
+        });
+    }
+
+    // 리스가 만료되어 다른 실행이 다시 가져간 행은 그 실행의 결과를 따른다
+    private void warnIfClaimLost(String userId, int updated, int claimed) {
+        if (updated < claimed) {
+            logger.warn("Dropped the delivery outcome of {} notification(s) for {}: claim no longer held", claimed - updated, userId);
+        }
+    }
+
+    // initialBackoff * 2^(attempts-1), 최대 maxBackoff
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,5 @@
+package kr.co.jobcal.service;
+
+// 알림 설정이 바뀌었을 때 발행한다
+public record NotificationPreferenceChangedEvent(String userId) {
+}
@@ -0,0 +1,116 @@
+package kr.co.jobcal.service;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import kr.co.jobcal.dto.NotificationPreferenceRequest;
+import kr.co.jobcal.dto.NotificationPreferenceResponse;
+import kr.co.jobcal.entity.NotificationPreference;
+import kr.co.jobcal.repository.NotificationPreferenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class NotificationPreferenceService {
+
+    public static final int MAX_LEAD_DAYS = 30;
+    private static final int MAX_LEAD_DAY_COUNT = 5;
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationPreferenceResponse defaults;
+
+    public NotificationPreferenceService(
+        NotificationPreferenceRepository preferenceRepository,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${app.notification.lead-days:3,1,0}") List<Integer> defaultLeadDays,
+        @Value("${app.notification.default-hour:9}") int defaultHour,
+        @Value("${app.notification.default-zone:Asia/Seoul}") String defaultZone
+    ) {
+        this.preferenceRepository = preferenceRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaults = new NotificationPreferenceResponse(
+            validateLeadDays(defaultLeadDays),
+            validateHour(defaultHour),
+            validateZone(defaultZone)
+        );
+    }
+
+    public NotificationPreferenceResponse getPreference(String userId) {
+        return preferenceRepository.findById(userId)
+            .map(this::toResponse)
+            .orElse(defaults);
+    }
+
+    // 알림 일정 계산용. 설정이 없는 사용자는 기본값으로 채운다.
+    public Map<String, NotificationPreferenceResponse> getPreferences(Collection<String> userIds) {
+        Map<String, NotificationPreferenceResponse> result = new HashMap<>();
+        for (NotificationPreference preference : preferenceRepository.findAllById(userIds)) {
+            result.put(preference.getUserId(), toResponse(preference));
+        }
+        for (String userId : userIds) {
+            result.putIfAbsent(userId, defaults);
+        }
+        return result;
+    }
+
+    @Transactional
+    public NotificationPreferenceResponse updatePreference(String userId, NotificationPreferenceRequest request) {
+        NotificationPreferenceResponse current = getPreference(userId);
+        List<Integer> leadDays = request.getLeadDays() != null ? validateLeadDays(request.getLeadDays()) : current.leadDays();
+        int hour = request.getNotifyHour() != null ? validateHour(request.getNotifyHour()) : current.notifyHour();
+        String zoneId = request.getZoneId() != null ? validateZone(request.getZoneId()) : current.zoneId();
+
+        NotificationPreference preference = preferenceRepository.findById(userId).orElseGet(NotificationPreference::new);
+        preference.setUserId(userId);
+        preference.setLeadDays(leadDays.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        preference.setNotifyHour(hour);
+        preference.setZoneId(zoneId);
+        preferenceRepository.save(preference);
+        eventPublisher.publishEvent(new NotificationPreferenceChangedEvent(userId));
+        return new NotificationPreferenceResponse(leadDays, hour, zoneId);
+    }
+
+    private NotificationPreferenceResponse toResponse(NotificationPreference preference) {
+        List<Integer> leadDays = Arrays.stream(preference.getLeadDays().split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(Integer::valueOf)
+            .toList();
+        return new NotificationPreferenceResponse(leadDays, preference.getNotifyHour(), preference.getZoneId());
+    }
+
+    private List<Integer> validateLeadDays(List<Integer> leadDays) {
+        if (leadDays == null || leadDays.isEmpty() || leadDays.size() > MAX_LEAD_DAY_COUNT) {
+            throw new IllegalArgumentException("leadDays must have 1 to " + MAX_LEAD_DAY_COUNT + " entries");
+        }
+        for (Integer days : leadDays) {
+            if (days == null || days < 0 || days > MAX_LEAD_DAYS) {
+                throw new IllegalArgumentException("leadDays must be between 0 and " + MAX_LEAD_DAYS);
+            }
+        }
+        return leadDays.stream().distinct().sorted().toList();
+    }
+
+    private int validateHour(int hour) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("notifyHour must be between 0 and 23");
+        }
+        return hour;
+    }
+
+    private String validateZone(String zoneId) {
+        try {
+            return ZoneId.of(zoneId).getId();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown zoneId: " + zoneId);
+        }
+    }
+}
@@ -1,45 +1,115 @@
 package kr.co.jobcal.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import kr.co.jobcal.dto.DeadlineNotificationRow;
+import kr.co.jobcal.dto.DeadlineReminder;
 import kr.co.jobcal.entity.Application;
 import kr.co.jobcal.entity.ApplicationStatus;
+import kr.co.jobcal.entity.NotificationOutbox;
 import kr.co.jobcal.repository.ApplicationRepository;
+import kr.co.jobcal.repository.NotificationOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+// 마감 알림 대상 조회와 outbox 적재. 언제 보낼지는 DeadlineReminderScheduler가 정한다.
 @Service
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    static final List<ApplicationStatus> CLOSED_STATUSES = List.of(ApplicationStatus.REJECTED, ApplicationStatus.ACCEPTED);
 
     private final ApplicationRepository applicationRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final int pageSize;
+    private final Counter processedCounter;
+    private final Counter enqueuedCounter;
 
-    public NotificationService(ApplicationRepository applicationRepository) {
+    public NotificationService(
+        ApplicationRepository applicationRepository,
+        NotificationOutboxRepository outboxRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.notification.page-size:500}") int pageSize
+    ) {
         this.applicationRepository = applicationRepository;
+        this.outboxRepository = outboxRepository;
+        this.pageSize = pageSize;
+        this.processedCounter = Counter.builder("notification.deadline.processed")
+            .description("Applications visited by the deadline notification scan")
+            .register(meterRegistry);
+        this.enqueuedCounter = Counter.builder("notification.outbox.enqueued")
+            .register(meterRegistry);
     }
 
-    @Scheduled(cron = "0 0 9 * * *")
-    public void checkAndNotifyUpcomingDeadlines() {
-        LocalDate today = LocalDate.now();
-        LocalDate threeDaysLater = today.plusDays(3);
-
-        List<Application> applications = applicationRepository.findByDeadlineBetweenExcludingStatus(
-            today,
-            threeDaysLater,
-            List.of(ApplicationStatus.REJECTED, ApplicationStatus.ACCEPTED)
-        );
-
-        for (Application application : applications) {
-            logger.info(
-                "Upcoming deadline: {} - {} (Deadline: {})",
-                application.getJobPosting().getCompanyName(),
-                application.getJobPosting().getJobTitle(),
-                application.getJobPosting().getDeadline()
+    // 마감일이 [start, end]인 진행 중 지원을 지원 id 키셋 페이지로 넘긴다. 페이지마다 짧은 읽기 트랜잭션으로 끝난다.
+    public void forEachUpcomingPage(LocalDate start, LocalDate end, Consumer<List<DeadlineNotificationRow>> consumer) {
+        Long afterId = 0L;
+        while (true) {
+            List<DeadlineNotificationRow> page = applicationRepository.findDeadlineNotificationRows(
+                start,
+                end,
+                CLOSED_STATUSES,
+                afterId,
+                Limit.of(pageSize)
             );
+            if (page.isEmpty()) {
+                break;
+            }
+            consumer.accept(page);
+            processedCounter.increment(page.size());
+            if (page.size() < pageSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).applicationId();
+        }
+    }
+
+    // 발송은 하지 않고 outbox에만 쌓는다. 이미 쌓인 (지원, 마감일, 남은 일수)는 건너뛴다.
+    public void enqueue(List<DeadlineReminder> reminders) {
+        List<NotificationOutbox> candidates = new ArrayList<>();
+        for (DeadlineReminder reminder : reminders) {
+            DeadlineNotificationRow row = reminder.row();
+            NotificationOutbox message = new NotificationOutbox();
+            message.setDedupeKey(NotificationOutbox.dedupeKey(row.applicationId(), row.deadline(), reminder.leadDays()));
+            message.setUserId(row.userId());
+            message.setApplicationId(row.applicationId());
+            message.setCompanyName(row.companyName());
+            message.setJobTitle(row.jobTitle());
+            message.setDeadline(row.deadline());
+            message.setLeadDays(reminder.leadDays());
+            candidates.add(message);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(outboxRepository.findExistingDedupeKeys(
+            candidates.stream().map(NotificationOutbox::getDedupeKey).toList()
+        ));
+        // 한 행씩 따로 저장한다. 다른 인스턴스가 먼저 쌓은 행이 있어도 그 행만 건너뛰고 나머지는 쌓인다.
+        int enqueued = 0;
+        for (NotificationOutbox message : candidates) {
+            if (existing.contains(message.getDedupeKey())) {
+                continue;
+            }
+            try {
+                outboxRepository.save(message);
+                enqueued++;
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Notification {} already enqueued elsewhere", message.getDedupeKey());
+            }
         }
+        enqueuedCounter.increment(enqueued);
     }
 
     public List<Application> getApplicationsNeedingNotification(String userId) {
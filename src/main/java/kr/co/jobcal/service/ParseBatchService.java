@@ -0,0 +1,127 @@
+package kr.co.jobcal.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import kr.co.jobcal.dto.JobPostingBatchParseResult;
+import kr.co.jobcal.global.utils.BoundedTtlCache;
+import kr.co.jobcal.global.utils.UrlCanonicalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ParseBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParseBatchService.class);
+    private static final String UNKNOWN_HOST = "";
+
+    private final ParserService parserService;
+    private final int maxUrls;
+    private final int perHostConcurrency;
+    private final Semaphore globalPermits;
+    // 요청마다 호스트가 달라질 수 있으므로 쓰이지 않는 호스트의 세마포어는 버린다
+    private final BoundedTtlCache<String, Semaphore> hostPermits;
+
+    public ParseBatchService(
+        ParserService parserService,
+        @Value("${app.parser.batch.max-urls:200}") int maxUrls,
+        @Value("${app.parser.batch.per-host-concurrency:4}") int perHostConcurrency,
+        @Value("${app.parser.batch.max-concurrency:32}") int maxConcurrency,
+        @Value("${app.parser.batch.host-permits.max-size:1000}") int hostPermitsMaxSize,
+        @Value("${app.parser.batch.host-permits.idle-ttl:30m}") Duration hostPermitsIdleTtl
+    ) {
+        this.parserService = parserService;
+        this.maxUrls = maxUrls;
+        this.perHostConcurrency = perHostConcurrency;
+        this.globalPermits = new Semaphore(maxConcurrency, true);
+        this.hostPermits = new BoundedTtlCache<>(hostPermitsMaxSize, hostPermitsIdleTtl);
+    }
+
+    public int getMaxUrls() {
+        return maxUrls;
+    }
+
+    // 인증된 배치 엔드포인트에서만 호출되므로 임의 주소(fallback 파서)도 허용한다.
+    // URL별로 가상 스레드에서 파싱하고, 끝나는 순서대로 onResult를 호출한다. 모든 URL이 끝나면 반환.
+    // cancelled가 true가 되면 아직 시작하지 않은 URL은 받지 않고 onResult도 부르지 않는다.
+    public void parseAll(List<String> urls, BooleanSupplier cancelled, Consumer<JobPostingBatchParseResult> onResult) {
+        if (urls == null || urls.isEmpty()) {
+            return;
+        }
+        if (urls.size() > maxUrls) {
+            throw new IllegalArgumentException("Too many URLs (max " + maxUrls + ")");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < urls.size(); i++) {
+                int index = i;
+                String url = urls.get(i);
+                executor.submit(() -> {
+                    JobPostingBatchParseResult result = parseOne(index, url, cancelled);
+                    if (result != null && !cancelled.getAsBoolean()) {
+                        onResult.accept(result);
+                    }
+                });
+            }
+        }
+    }
+
+    // canonical URL이 같은 입력 index끼리 묶는다. 각 묶음의 첫 원소가 대표이고, 묶음은 대표 순서대로 나온다.
+    // 해석할 수 없는 URL은 원문 그대로를 키로 쓴다.
+    public static List<List<Integer>> groupByCanonicalUrl(List<String> urls) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String url = urls.get(i);
+            String canonical = UrlCanonicalizer.canonicalize(url);
+            groups.computeIfAbsent(canonical != null ? canonical : String.valueOf(url), key -> new ArrayList<>()).add(i);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    // 취소되었으면 null
+    private JobPostingBatchParseResult parseOne(int index, String url, BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            return null;
+        }
+        if (url == null || url.isBlank()) {
+            return new JobPostingBatchParseResult(index, url, false, null, "URL is required");
+        }
+
+        String host = UrlCanonicalizer.host(url);
+        Semaphore hostSemaphore = hostPermits.getOrCompute(
+            host != null ? host : UNKNOWN_HOST,
+            key -> new Semaphore(perHostConcurrency, true)
+        );
+        try {
+            globalPermits.acquire();
+            try {
+                hostSemaphore.acquire();
+                try {
+                    // 자리를 기다리는 동안 클라이언트가 떠났을 수 있다
+                    if (cancelled.getAsBoolean()) {
+                        return null;
+                    }
+                    ParserService.ParserResult result = parserService.parseUrl(url, true);
+                    return new JobPostingBatchParseResult(index, url, result.isSuccess(), result.getData(), result.getError());
+                } finally {
+                    hostSemaphore.release();
+                }
+            } finally {
+                globalPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Batch parse interrupted for URL {}", url);
+            return new JobPostingBatchParseResult(index, url, false, null, "Parsing interrupted");
+        }
+    }
+}
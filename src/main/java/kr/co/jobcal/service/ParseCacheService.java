@@ -0,0 +1,121 @@
+package kr.co.jobcal.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import kr.co.jobcal.dto.JobPostingCreateRequest;
+import kr.co.jobcal.entity.ParseCacheEntry;
+import kr.co.jobcal.global.utils.ContentHash;
+import kr.co.jobcal.repository.ParseCacheRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 메모리 캐시 뒤에 있는 영속 파싱 캐시 (canonical URL 기준)
+@Service
+public class ParseCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParseCacheService.class);
+
+    private final ParseCacheRepository parseCacheRepository;
+    private final Duration freshness;
+    private final Duration retention;
+    private final int maxPayloadChars;
+
+    public ParseCacheService(
+        ParseCacheRepository parseCacheRepository,
+        @Value("${app.parser.persistent-cache.freshness:6h}") Duration freshness,
+        @Value("${app.parser.persistent-cache.retention:30d}") Duration retention,
+        @Value("${app.parser.persistent-cache.max-payload-chars:65536}") int maxPayloadChars
+    ) {
+        this.parseCacheRepository = parseCacheRepository;
+        this.freshness = freshness;
+        this.retention = retention;
+        this.maxPayloadChars = maxPayloadChars;
+    }
+
+    // fresh가 아니어도 돌려준다. 오래된 결과는 조건부 요청의 검증자와 내용 비교에 쓴다.
+    @Transactional(readOnly = true)
+    public Optional<CachedParse> lookup(String canonicalUrl) {
+        LocalDateTime threshold = LocalDateTime.now().minus(freshness);
+        return parseCacheRepository.findByUrlHash(ContentHash.sha256Hex(canonicalUrl))
+            .map(entry -> new CachedParse(
+                toRequest(entry),
+                entry.getFetchedAt() != null && entry.getFetchedAt().isAfter(threshold)
+            ));
+    }
+
+    @Transactional
+    public void save(String canonicalUrl, JobPostingCreateRequest request) {
+        String urlHash = ContentHash.sha256Hex(canonicalUrl);
+        // 지나치게 큰 결과는 남기지 않는다. 예전 항목도 지워서 오래된 내용이 검증자로 쓰이지 않게 한다.
+        int payloadChars = payloadChars(request);
+        if (payloadChars > maxPayloadChars) {
+            logger.debug("Skipped caching {} ({} chars)", canonicalUrl, payloadChars);
+            parseCacheRepository.deleteByUrlHash(urlHash);
+            return;
+        }
+        ParseCacheEntry entry = parseCacheRepository.findByUrlHash(urlHash).orElseGet(ParseCacheEntry::new);
+        entry.setUrlHash(urlHash);
+        entry.setCanonicalUrl(canonicalUrl);
+        if (request.getContentHash() != null) {
+            entry.setHtmlHash(request.getContentHash());
+        }
+        entry.setCompanyName(request.getCompanyName());
+        entry.setJobTitle(request.getJobTitle());
+        entry.setDeadline(request.getDeadline());
+        entry.setParsedData(request.getParsedData() != null ? new HashMap<>(request.getParsedData()) : null);
+        entry.setDescription(request.getDescription());
+        entry.setDescriptionRaw(request.getDescriptionRaw());
+        entry.setLocation(request.getLocation());
+        entry.setEtag(request.getEtag());
+        entry.setLastModified(request.getLastModified());
+        entry.setFetchedAt(LocalDateTime.now());
+        parseCacheRepository.save(entry);
+    }
+
+    // retention보다 오래 다시 받지 않은 URL은 지운다
+    @Scheduled(cron = "${app.parser.persistent-cache.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int deleted = parseCacheRepository.deleteByFetchedAtBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Purged {} parse cache entries older than {}", deleted, retention);
+        }
+    }
+
+    public record CachedParse(JobPostingCreateRequest request, boolean fresh) {
+    }
+
+    private JobPostingCreateRequest toRequest(ParseCacheEntry entry) {
+        JobPostingCreateRequest request = new JobPostingCreateRequest();
+        request.setCompanyName(entry.getCompanyName());
+        request.setJobTitle(entry.getJobTitle());
+        request.setDeadline(entry.getDeadline());
+        request.setOriginalUrl(entry.getCanonicalUrl());
+        request.setParsedData(entry.getParsedData() != null ? new HashMap<>(entry.getParsedData()) : null);
+        request.setDescription(entry.getDescription());
+        request.setDescriptionRaw(entry.getDescriptionRaw());
+        request.setLocation(entry.getLocation());
+        request.setEtag(entry.getEtag());
+        request.setLastModified(entry.getLastModified());
+        request.setContentHash(entry.getHtmlHash());
+        return request;
+    }
+
+    private static int payloadChars(JobPostingCreateRequest request) {
+        Map<String, Object> parsedData = request.getParsedData();
+        return length(request.getDescription())
+            + length(request.getDescriptionRaw())
+            + length(request.getLocation())
+            + (parsedData != null ? parsedData.toString().length() : 0);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
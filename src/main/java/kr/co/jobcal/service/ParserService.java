@@ -1,41 +1,256 @@
 package kr.co.jobcal.service;
 
 import kr.co.jobcal.dto.JobPostingCreateRequest;
+import kr.co.jobcal.entity.JobPosting;
 import kr.co.jobcal.service.parser.BaseParser;
-import kr.co.jobcal.service.parser.InthisworkParser;
+import kr.co.jobcal.service.parser.InthisworkSiteParser;
 import kr.co.jobcal.service.parser.ParsedJob;
-import kr.co.jobcal.service.parser.WantedParser;
+import kr.co.jobcal.service.parser.SiteParser;
+import kr.co.jobcal.service.parser.SiteParserRegistry;
+import kr.co.jobcal.global.utils.BoundedTtlCache;
+import kr.co.jobcal.global.utils.FetchResult;
 import kr.co.jobcal.global.utils.HttpFetcher;
+import kr.co.jobcal.global.utils.PublicUrlGuard;
+import kr.co.jobcal.global.utils.UrlCanonicalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.util.Locale;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class ParserService {
     private static final Logger log = LoggerFactory.getLogger(ParserService.class);
 
-    private static final String UNSUPPORTED_URL_ERROR = "지원하지 않는 주소입니다. 원티드/인디스워크 URL만 지원합니다.";
+    private static final String SITE_UNAVAILABLE_ERROR = "채용 사이트 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요.";
+    private static final String UNSUPPORTED_URL_ERROR = "지원하지 않는 주소입니다. 공개된 http(s) 채용 공고 URL만 지원합니다.";
+    private static final String LOGIN_REQUIRED_ERROR = "지원 사이트가 아닌 주소는 로그인 후 불러올 수 있습니다.";
     private final JobDescriptionFormatter jobDescriptionFormatter;
+    private final HttpFetcher httpFetcher;
+    private final JobPostingService jobPostingService;
+    private final SiteParserRegistry siteParserRegistry;
+    private final ParseCacheService parseCacheService;
+    private final BoundedTtlCache<String, JobPostingCreateRequest> parseCache;
+    private final ConcurrentMap<String, CompletableFuture<ParserResult>> inFlight = new ConcurrentHashMap<>();
+    private final Duration coalesceTimeout;
+    private final Counter coalescedCounter;
+    private final Counter persistedHitCounter;
+    private final Counter persistedMissCounter;
+    private final Counter unchangedCounter;
 
-    public ParserService(JobDescriptionFormatter jobDescriptionFormatter) {
+    public ParserService(
+        JobDescriptionFormatter jobDescriptionFormatter,
+        HttpFetcher httpFetcher,
+        JobPostingService jobPostingService,
+        SiteParserRegistry siteParserRegistry,
+        ParseCacheService parseCacheService,
+        MeterRegistry meterRegistry,
+        @Value("${app.parser.cache.max-size:1000}") int cacheMaxSize,
+        @Value("${app.parser.cache.ttl:10m}") Duration cacheTtl,
+        @Value("${app.parser.coalesce-timeout:30s}") Duration coalesceTimeout
+    ) {
         this.jobDescriptionFormatter = jobDescriptionFormatter;
+        this.httpFetcher = httpFetcher;
+        this.jobPostingService = jobPostingService;
+        this.siteParserRegistry = siteParserRegistry;
+        this.parseCacheService = parseCacheService;
+        this.parseCache = new BoundedTtlCache<>(cacheMaxSize, cacheTtl);
+        this.coalesceTimeout = coalesceTimeout;
+        registerCacheMetrics(meterRegistry);
+        this.coalescedCounter = Counter.builder("parser.requests.coalesced")
+            .description("Parse requests that joined an in-flight fetch of the same URL")
+            .register(meterRegistry);
+        Gauge.builder("parser.requests.in_flight", inFlight, Map::size)
+            .register(meterRegistry);
+        this.persistedHitCounter = Counter.builder("cache.gets")
+            .tag("cache", "parser_db")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.persistedMissCounter = Counter.builder("cache.gets")
+            .tag("cache", "parser_db")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.unchangedCounter = Counter.builder("parser.content.unchanged")
+            .description("Fetches whose content fingerprint matched the stored parse, so parsing was skipped")
+            .register(meterRegistry);
     }
 
     public ParserResult parseUrl(String url) {
+        return parseUrl(url, false);
+    }
+
+    // allowFallback: 알려진 사이트가 아닌 임의 주소도 받을지. 익명 요청에는 열지 않는다
+    // (PublicUrlGuard는 DNS를 한 번만 확인하므로 DNS rebinding까지 막지는 못한다).
+    public ParserResult parseUrl(String url, boolean allowFallback) {
         try {
-            if (!isWantedUrl(url)) {
+            String cacheKey = UrlCanonicalizer.canonicalize(url);
+            SiteParser siteParser = resolveSiteParser(cacheKey, url);
+            if (siteParser == null) {
                 return ParserResult.failure(UNSUPPORTED_URL_ERROR);
             }
+            if (!allowFallback && siteParserRegistry.isFallback(siteParser)) {
+                return ParserResult.failure(LOGIN_REQUIRED_ERROR);
+            }
+
+            JobPostingCreateRequest cached = parseCache.get(cacheKey);
+            if (cached != null) {
+                return ParserResult.success(copyForUrl(cached, url));
+            }
+
+            CompletableFuture<ParserResult> flight = new CompletableFuture<>();
+            CompletableFuture<ParserResult> leader = inFlight.putIfAbsent(cacheKey, flight);
+            if (leader != null) {
+                coalescedCounter.increment();
+                return forCaller(awaitLeader(leader), url);
+            }
+
+            try {
+                ParseCacheService.CachedParse persisted = loadPersisted(cacheKey);
+                ParserResult result;
+                if (persisted != null && persisted.fresh()) {
+                    persistedHitCounter.increment();
+                    result = ParserResult.success(copyForUrl(persisted.request(), url));
+                } else {
+                    persistedMissCounter.increment();
+                    result = fetchAndParse(url, siteParser, persisted != null ? persisted.request() : null);
+                    if (isCacheable(result)) {
+                        persist(cacheKey, result.getData());
+                    }
+                }
+                if (isCacheable(result)) {
+                    parseCache.put(cacheKey, copyForUrl(result.getData(), url));
+                }
+                flight.complete(result);
+                return result;
+            } catch (Throwable e) {
+                // Error까지 받아서 끝내야 기다리는 요청이 영원히 남지 않는다
+                flight.complete(ParserResult.failure("Parsing error: " + e.getMessage()));
+                throw e;
+            } finally {
+                inFlight.remove(cacheKey, flight);
+            }
+        } catch (Exception e) {
+            return ParserResult.failure("Parsing error: " + e.getMessage());
+        }
+    }
+
+    // 캐시를 거치지 않고 원본을 다시 확인한다 (백그라운드 갱신용). 결과는 캐시에 반영한다.
+    public ParserResult refresh(String url) {
+        try {
+            String cacheKey = UrlCanonicalizer.canonicalize(url);
+            SiteParser siteParser = resolveSiteParser(cacheKey, url);
+            if (siteParser == null) {
+                return ParserResult.failure(UNSUPPORTED_URL_ERROR);
+            }
+
+            ParserResult result = fetchAndParse(url, siteParser, null);
+            if (isCacheable(result)) {
+                persist(cacheKey, result.getData());
+                parseCache.put(cacheKey, copyForUrl(result.getData(), url));
+            }
+            return result;
+        } catch (Exception e) {
+            return ParserResult.failure("Parsing error: " + e.getMessage());
+        }
+    }
+
+    // 지원하지 않는 URL이면 null
+    private SiteParser resolveSiteParser(String cacheKey, String url) {
+        if (cacheKey == null || !(cacheKey.startsWith("https://") || cacheKey.startsWith("http://"))) {
+            return null;
+        }
+        SiteParser siteParser = siteParserRegistry.resolve(UrlCanonicalizer.hostOfCanonical(cacheKey));
+        // 알려진 사이트가 아니면 임의 주소이므로 내부망으로 향하지 않는지 확인한다
+        if (siteParserRegistry.isFallback(siteParser) && !PublicUrlGuard.isPublicHttpUrl(url)) {
+            return null;
+        }
+        return siteParser;
+    }
+
+    // 앞선 요청이 멈춰도 coalesceTimeout 뒤에는 실패로 돌려준다. copy()라서 원래 future는 그대로 둔다.
+    private ParserResult awaitLeader(CompletableFuture<ParserResult> leader) {
+        try {
+            return leader.copy().orTimeout(coalesceTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return ParserResult.failure(SITE_UNAVAILABLE_ERROR);
+            }
+            throw e;
+        }
+    }
+
+    private ParserResult forCaller(ParserResult shared, String url) {
+        if (!shared.isSuccess() || shared.getData() == null) {
+            return shared;
+        }
+        return ParserResult.success(copyForUrl(shared.getData(), url));
+    }
+
+    // 재시작 직후에도 네트워크 전에 DB에 남은 결과를 본다. DB 오류는 캐시 미스로 본다.
+    private ParseCacheService.CachedParse loadPersisted(String cacheKey) {
+        try {
+            return parseCacheService.lookup(cacheKey).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read parse cache for {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private void persist(String cacheKey, JobPostingCreateRequest request) {
+        try {
+            parseCacheService.save(cacheKey, request);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스가 같은 URL을 먼저 저장한 경우 등. 결과는 그대로 돌려준다.
+            log.warn("Failed to write parse cache for {}", cacheKey, e);
+        }
+    }
 
-            String html = HttpFetcher.fetchUrl(url);
-            if (html == null || html.isBlank()) {
+    // previous: 저장된 공고, 없으면 만료된 parse_cache 결과. 검증자와 내용 지문을 여기서 가져온다.
+    private ParserResult fetchAndParse(String url, SiteParser siteParser, JobPostingCreateRequest stale) {
+        try {
+            JobPostingCreateRequest previous = jobPostingService.findByOriginalUrl(url)
+                .map(this::fromStoredPosting)
+                .orElse(stale);
+            String etag = previous != null ? previous.getEtag() : null;
+            String lastModified = previous != null ? previous.getLastModified() : null;
+
+            String site = siteParserRegistry.isFallback(siteParser) ? "other" : siteParser.name();
+            FetchResult fetched = httpFetcher.fetchAsync(url, site, etag, lastModified, siteParser.bodyCutoff()).join();
+            if (fetched.isNotModified() && previous != null) {
+                return ParserResult.success(copyForUrl(previous, url));
+            }
+            if (fetched.isRejected()) {
+                log.info("Fetch rejected for {}: {}", url, fetched.getRejectedReason());
+                return ParserResult.failure(SITE_UNAVAILABLE_ERROR);
+            }
+            String html = fetched.getBody();
+            if (!fetched.isSuccess() || html.isBlank()) {
                 return ParserResult.failure("Failed to fetch URL");
             }
 
-            BaseParser parser = getParser(url, html);
+            String fingerprint = siteParser.fingerprint(html);
+            if (previous != null && fingerprint.equals(previous.getContentHash())) {
+                unchangedCounter.increment();
+                JobPostingCreateRequest unchanged = copyForUrl(previous, url);
+                unchanged.setEtag(fetched.getEtag());
+                unchanged.setLastModified(fetched.getLastModified());
+                return ParserResult.success(unchanged);
+            }
+
+            BaseParser parser = siteParser.create(html);
             ParsedJob parsedJob = parser.parse();
 
             JobPostingCreateRequest request = new JobPostingCreateRequest();
@@ -54,9 +269,11 @@ public class ParserService {
             }
             request.setDescription(formattedDescription);
             request.setLocation(parsedJob.getLocation());
+            request.setEtag(fetched.getEtag());
+            request.setLastModified(fetched.getLastModified());
+            request.setContentHash(fingerprint);
 
-            String host = extractNormalizedHost(url);
-            if (isInthisworkHost(host)) {
+            if (siteParser instanceof InthisworkSiteParser) {
                 log.info(
                     "[Inthiswork Parse] url={}, companyName={}, jobTitle={}, deadline={}, location={}, parsedData={}",
                     url,
@@ -74,45 +291,61 @@ public class ParserService {
         }
     }
 
-    private BaseParser getParser(String url, String html) {
-        String host = extractNormalizedHost(url);
-        if (isInthisworkHost(host)) {
-            return new InthisworkParser(html);
-        }
-
-        return new WantedParser(html);
+    private JobPostingCreateRequest fromStoredPosting(JobPosting jobPosting) {
+        JobPostingCreateRequest request = new JobPostingCreateRequest();
+        request.setCompanyName(jobPosting.getCompanyName());
+        request.setJobTitle(jobPosting.getJobTitle());
+        request.setDeadline(jobPosting.getDeadline());
+        request.setOriginalUrl(jobPosting.getOriginalUrl());
+        request.setParsedData(jobPosting.getParsedData());
+        request.setDescription(jobPosting.getDescription());
+        request.setDescriptionRaw(jobPosting.getDescriptionRaw());
+        request.setLocation(jobPosting.getLocation());
+        request.setEtag(jobPosting.getEtag());
+        request.setLastModified(jobPosting.getLastModified());
+        request.setContentHash(jobPosting.getContentHash());
+        return request;
     }
 
-    private boolean isWantedUrl(String url) {
-        String host = extractNormalizedHost(url);
-        if (host == null) {
+    private boolean isCacheable(ParserResult result) {
+        if (!result.isSuccess() || result.getData() == null) {
             return false;
         }
-
-        return host.equals("wanted.co.kr")
-            || host.endsWith(".wanted.co.kr")
-            || isInthisworkHost(host);
+        Map<String, Object> parsedData = result.getData().getParsedData();
+        return parsedData == null || !parsedData.containsKey("error");
     }
 
-    private boolean isInthisworkHost(String host) {
-        if (host == null || host.isBlank()) {
-            return false;
-        }
-        return host.equals("inthiswork.com") || host.endsWith(".inthiswork.com");
+    private JobPostingCreateRequest copyForUrl(JobPostingCreateRequest source, String url) {
+        JobPostingCreateRequest copy = new JobPostingCreateRequest();
+        copy.setCompanyName(source.getCompanyName());
+        copy.setJobTitle(source.getJobTitle());
+        copy.setDeadline(source.getDeadline());
+        copy.setOriginalUrl(url);
+        copy.setParsedData(source.getParsedData() != null ? new HashMap<>(source.getParsedData()) : null);
+        copy.setDescription(source.getDescription());
+        copy.setDescriptionRaw(source.getDescriptionRaw());
+        copy.setLocation(source.getLocation());
+        copy.setEtag(source.getEtag());
+        copy.setLastModified(source.getLastModified());
+        copy.setContentHash(source.getContentHash());
+        return copy;
     }
 
-    private String extractNormalizedHost(String url) {
-        try {
-            URI uri = URI.create(url);
-            String host = uri.getHost();
-            if (host == null || host.isBlank()) {
-                return null;
-            }
-
-            return host.toLowerCase(Locale.ROOT);
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+    private void registerCacheMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cache.gets", parseCache, BoundedTtlCache::hitCount)
+            .tag("cache", "parser")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", parseCache, BoundedTtlCache::missCount)
+            .tag("cache", "parser")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", parseCache, BoundedTtlCache::evictionCount)
+            .tag("cache", "parser")
+            .register(meterRegistry);
+        Gauge.builder("cache.size", parseCache, BoundedTtlCache::size)
+            .tag("cache", "parser")
+            .register(meterRegistry);
     }
 
     public static class ParserResult {
@@ -0,0 +1,5 @@
+package kr.co.jobcal.service;
+
+// 기존 사용자 행이 바뀌었을 때 발행한다 (캐시 무효화용)
+public record UserChangedEvent(String userId) {
+}
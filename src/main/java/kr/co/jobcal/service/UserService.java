@@ -1,33 +1,71 @@
 package kr.co.jobcal.service;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 import kr.co.jobcal.entity.User;
 import kr.co.jobcal.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class UserService {
 
-    private final UserRepository userRepository;
+    private static final int USER_ID_LOCK_STRIPES = 64;
 
-    public UserService(UserRepository userRepository) {
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate upsertTransaction;
+    // 같은 base로 동시에 가입하는 요청을 커밋까지 직렬화한다 (인스턴스 간 경합은 unique 제약과 재시도가 막는다)
+    private final ReentrantLock[] userIdLocks = new ReentrantLock[USER_ID_LOCK_STRIPES];
+
+    public UserService(
+        UserRepository userRepository,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.upsertTransaction = new TransactionTemplate(transactionManager);
+        this.upsertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < userIdLocks.length; i++) {
+            userIdLocks[i] = new ReentrantLock();
+        }
     }
 
-    @Transactional
+    // 락을 잡은 뒤에 트랜잭션을 시작한다. 먼저 시작하면 REPEATABLE READ 스냅샷이 락을 기다리는 동안
+    // 커밋된 가입을 보지 못해 같은 id를 다시 고른다.
     public User upsertFromClaims(Map<String, Object> claims) {
         String providerSubject = extractProviderSubject(claims);
         String email = extractEmail(claims, providerSubject);
         String userId = extractUserId(claims, email, providerSubject);
 
+        ReentrantLock lock = userIdLocks[Math.floorMod(userId.hashCode(), userIdLocks.length)];
+        lock.lock();
+        try {
+            try {
+                return upsertTransaction.execute(status -> upsert(email, userId, providerSubject));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스와 가입이 겹쳐 unique 제약에 걸렸다. 새 트랜잭션에서는 커밋된 행을 읽는다.
+                return upsertTransaction.execute(status -> upsert(email, userId, providerSubject));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private User upsert(String email, String userId, String providerSubject) {
         if (providerSubject != null) {
             return userRepository.findByProviderSubject(providerSubject)
                 .map(existing -> {
                     boolean updated = tryUpdateEmail(existing, email);
-                    return updated ? userRepository.save(existing) : existing;
+                    return updated ? saveExisting(existing) : existing;
                 })
                 .orElseGet(() -> upsertByEmailOrCreate(email, userId, providerSubject));
         }
@@ -43,7 +81,7 @@ public class UserService {
                     existing.setProviderSubject(providerSubject);
                     updated = true;
                 }
-                return updated ? userRepository.save(existing) : existing;
+                return updated ? saveExisting(existing) : existing;
             })
             .orElseGet(() -> {
                 User user = new User();
@@ -52,10 +90,17 @@ public class UserService {
                 user.setUserId(ensureUniqueUserId(userId));
                 user.setHashedPassword("oauth2:" + UUID.randomUUID());
                 user.setIsActive(true);
-                return userRepository.save(user);
+                // 바로 flush해서 id 충돌이 이 트랜잭션 안에서 드러나게 한다
+                return userRepository.saveAndFlush(user);
             });
     }
 
+    private User saveExisting(User existing) {
+        User saved = userRepository.save(existing);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUserId()));
+        return saved;
+    }
+
     private String extractProviderSubject(Map<String, Object> claims) {
         String sub = claimAsString(claims, "sub");
         if (sub == null || sub.isBlank()) {
@@ -104,14 +149,28 @@ public class UserService {
         return sanitizeUserId(userId);
     }
 
-    private String ensureUniqueUserId(String base) {
-        String candidate = base;
-        int suffix = 1;
-        while (userRepository.existsByUserId(candidate)) {
-            candidate = base + "_" + suffix;
-            suffix += 1;
-        }
-        return candidate;
+    String ensureUniqueUserId(String base) {
+        String prefix = base + "_";
+        List<String> taken = userRepository.findUserIdsByBase(base, escapeLike(prefix) + "%");
+        if (!taken.contains(base)) {
+            return base;
+        }
+        long maxSuffix = 0;
+        for (String id : taken) {
+            if (!id.startsWith(prefix)) {
+                continue;
+            }
+            // "user_abc" 같은 다른 id는 건너뛴다
+            String suffix = id.substring(prefix.length());
+            if (!suffix.isEmpty() && suffix.length() <= 18 && suffix.chars().allMatch(Character::isDigit)) {
+                maxSuffix = Math.max(maxSuffix, Long.parseLong(suffix));
+            }
+        }
+        return prefix + (maxSuffix + 1);
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 
     private String sanitizeUserId(String input) {
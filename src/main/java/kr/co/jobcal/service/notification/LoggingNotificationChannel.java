@@ -0,0 +1,34 @@
+package kr.co.jobcal.service.notification;
+
+import kr.co.jobcal.dto.NotificationDigest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 채널. 실제로 보내지 않고 로그만 남긴다 (로컬/테스트용)
+@Component
+@ConditionalOnProperty(name = "app.notification.channel", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingNotificationChannel.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(NotificationDigest digest) {
+        for (NotificationDigest.Item item : digest.items()) {
+            logger.info(
+                "Upcoming deadline for {}: {} - {} (Deadline: {}, D-{})",
+                digest.userId(),
+                item.companyName(),
+                item.jobTitle(),
+                item.deadline(),
+                item.leadDays()
+            );
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.jobcal.service.notification;
+
+import kr.co.jobcal.dto.NotificationDigest;
+
+// 알림 발송 수단. 실패하면 예외를 던지고, 재시도는 호출하는 쪽이 맡는다.
+public interface NotificationChannel {
+
+    String name();
+
+    void send(NotificationDigest digest);
+}
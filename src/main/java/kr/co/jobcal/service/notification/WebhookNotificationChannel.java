@@ -0,0 +1,70 @@
+package kr.co.jobcal.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import kr.co.jobcal.dto.NotificationDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 다이제스트를 JSON으로 POST 한다. 메일 발송 등은 수신 측에서 처리한다.
+@Component
+@ConditionalOnProperty(name = "app.notification.channel", havingValue = "webhook")
+public class WebhookNotificationChannel implements NotificationChannel {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final ObjectMapper objectMapper;
+    private final URI webhookUrl;
+    private final Duration timeout;
+
+    public WebhookNotificationChannel(
+        ObjectMapper objectMapper,
+        @Value("${app.notification.webhook.url}") String webhookUrl,
+        @Value("${app.notification.webhook.timeout:10s}") Duration timeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.webhookUrl = URI.create(webhookUrl);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(NotificationDigest digest) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(digest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification digest", e);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(webhookUrl)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException("Webhook responded with status " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Webhook request failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Webhook request interrupted", e);
+        }
+    }
+}
@@ -1,82 +1,174 @@
 package kr.co.jobcal.service.parser;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.NodeTraversor;
 
 public abstract class BaseParser {
 
-    protected final Document document;
+    // 파서들이 DOM에서 찾는 키워드 전체. 문서당 한 번만 훑어서 색인한다.
+    static final List<String> INDEXED_KEYWORDS = List.of(
+        "마감", "deadline", "지원마감", "채용마감", "접수마감", "모집마감", "채용기간", "~",
+        "위치", "location", "근무지", "근무지역", "지역",
+        "주요업무", "업무내용", "담당업무", "responsibilities", "role",
+        "자격요건", "필수요건", "requirements", "qualifications",
+        "우대사항", "preferences", "preferred"
+    );
+    private static final KeywordMatcher KEYWORD_MATCHER = new KeywordMatcher(INDEXED_KEYWORDS);
+    // 키워드 요소에서 값을 찾아 올라갈 최대 조상 깊이
+    private static final int MAX_KEYWORD_ASCENT = 3;
+
+    protected final String html;
+    private final DocumentMode documentMode;
+    private Document document;
+    private List<List<Element>> keywordHits;
 
     protected BaseParser(String html) {
-        this.document = Jsoup.parse(html);
+        this(html, DocumentMode.FULL);
     }
 
-    public abstract ParsedJob parse();
+    protected BaseParser(String html, DocumentMode documentMode) {
+        this.html = html != null ? html : "";
+        this.documentMode = documentMode;
+    }
 
-    protected LocalDate extractDate(String text) {
-        if (text == null || text.isBlank()) {
-            return null;
+    public DocumentMode getDocumentMode() {
+        return documentMode;
+    }
+
+    // DOM은 셀렉터가 실제로 필요할 때 선언한 모드대로 한 번만 만든다
+    protected Document document() {
+        if (document == null) {
+            document = switch (documentMode) {
+                case FULL -> Jsoup.parse(html);
+                case BODY_FRAGMENT -> parseBodyOnly();
+                case RAW -> throw new IllegalStateException(getClass().getSimpleName() + " declared RAW document mode");
+            };
+        }
+        return document;
+    }
+
+    private Document parseBodyOnly() {
+        int bodyOpen = indexOfIgnoreCase(html, "<body", 0);
+        if (bodyOpen < 0) {
+            return Jsoup.parse(html);
+        }
+        int contentStart = html.indexOf('>', bodyOpen);
+        if (contentStart < 0) {
+            return Jsoup.parse(html);
         }
+        int bodyClose = indexOfIgnoreCase(html, "</body", contentStart);
+        String body = bodyClose < 0
+            ? html.substring(contentStart + 1)
+            : html.substring(contentStart + 1, bodyClose);
+        return Jsoup.parseBodyFragment(body);
+    }
+
+    private static int indexOfIgnoreCase(String text, String needle, int from) {
+        for (int i = Math.max(0, from); i <= text.length() - needle.length(); i++) {
+            if (text.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-        List<Pattern> patterns = List.of(
-            Pattern.compile("(\\d{4})[.-](\\d{1,2})[.-](\\d{1,2})"),
-            Pattern.compile("(\\d{1,2})[.-](\\d{1,2})[.-](\\d{4})"),
-            Pattern.compile("(\\d{4})\\s*년\\s*(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일")
-        );
-
-        for (Pattern pattern : patterns) {
-            Matcher matcher = pattern.matcher(text);
-            if (matcher.find()) {
-                try {
-                    if (matcher.group(1).length() == 4) {
-                        int year = Integer.parseInt(matcher.group(1));
-                        int month = Integer.parseInt(matcher.group(2));
-                        int day = Integer.parseInt(matcher.group(3));
-                        return LocalDate.of(year, month, day);
-                    } else {
-                        int day = Integer.parseInt(matcher.group(1));
-                        int month = Integer.parseInt(matcher.group(2));
-                        int year = Integer.parseInt(matcher.group(3));
-                        return LocalDate.of(year, month, day);
+    // 자기 텍스트(ownText)에 keyword가 들어 있는 요소들, 문서 순서
+    protected List<Element> elementsContaining(String keyword) {
+        int index = KEYWORD_MATCHER.indexOf(keyword);
+        if (index < 0) {
+            throw new IllegalArgumentException("Keyword is not indexed: " + keyword);
+        }
+        return keywordHits().get(index);
+    }
+
+    // 키워드 우선순위대로, 키워드가 있는 가장 안쪽 요소부터 조상으로 올라가며 날짜를 찾는다
+    protected LocalDate findDateNearKeywords(List<String> keywords) {
+        Set<Element> visited = new HashSet<>();
+        for (String keyword : keywords) {
+            for (Element element : elementsContaining(keyword)) {
+                Element current = element;
+                for (int level = 0; current != null && level <= MAX_KEYWORD_ASCENT; level++) {
+                    if (visited.add(current)) {
+                        LocalDate date = extractDate(cleanText(current.text()));
+                        if (date != null) {
+                            return date;
+                        }
                     }
-                } catch (RuntimeException ignored) {
-                    continue;
+                    current = current.parent();
                 }
             }
         }
+        return null;
+    }
 
-        for (DateTimeFormatter formatter : dateFormatters()) {
-            try {
-                return LocalDate.parse(text.trim(), formatter);
-            } catch (DateTimeParseException ignored) {
-                continue;
+    // 키워드가 있는 가장 안쪽 요소의 텍스트. 라벨만 있으면 값이 붙어 있는 조상까지 올라간다.
+    protected String findTextNearKeywords(List<String> keywords, int maxLength) {
+        for (String keyword : keywords) {
+            for (Element element : elementsContaining(keyword)) {
+                Element current = element;
+                String text = cleanText(current.text());
+                for (int level = 0; isLabelOnly(text, keyword) && level < MAX_KEYWORD_ASCENT; level++) {
+                    if (current.parent() == null) {
+                        break;
+                    }
+                    current = current.parent();
+                    text = cleanText(current.text());
+                }
+                if (!text.isBlank() && text.length() < maxLength) {
+                    return text;
+                }
             }
         }
-
         return null;
     }
 
+    private boolean isLabelOnly(String text, String keyword) {
+        return text.length() <= keyword.length() + 1;
+    }
+
+    private List<List<Element>> keywordHits() {
+        if (keywordHits == null) {
+            List<List<Element>> hits = new ArrayList<>(KEYWORD_MATCHER.size());
+            for (int i = 0; i < KEYWORD_MATCHER.size(); i++) {
+                hits.add(new ArrayList<>());
+            }
+            NodeTraversor.traverse((node, depth) -> {
+                if (node instanceof Element element) {
+                    String ownText = element.ownText();
+                    if (!ownText.isEmpty()) {
+                        long matched = KEYWORD_MATCHER.match(ownText.toLowerCase(Locale.ROOT));
+                        while (matched != 0L) {
+                            hits.get(Long.numberOfTrailingZeros(matched)).add(element);
+                            matched &= matched - 1;
+                        }
+                    }
+                }
+            }, document());
+            keywordHits = hits;
+        }
+        return keywordHits;
+    }
+
+    public abstract ParsedJob parse();
+
+    // 마감일이 없는 표현(상시채용 등)은 null
+    protected LocalDate extractDate(String text) {
+        DateExtractor.DateMatch match = DateExtractor.find(text);
+        return match != null ? match.date() : null;
+    }
+
     protected String cleanText(String text) {
         if (text == null) {
             return "";
         }
         return text.replaceAll("\\s+", " ").trim();
     }
-
-    private List<DateTimeFormatter> dateFormatters() {
-        List<DateTimeFormatter> formatters = new ArrayList<>();
-        formatters.add(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        formatters.add(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
-        formatters.add(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        formatters.add(DateTimeFormatter.ofPattern("yyyy MM dd", Locale.KOREAN));
-        return formatters;
-    }
 }
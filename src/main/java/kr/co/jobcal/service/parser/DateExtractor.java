@@ -0,0 +1,118 @@
+package kr.co.jobcal.service.parser;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 텍스트를 한 번 훑어서 마감일 표현을 찾는다. 패턴은 클래스 로딩 시 한 번만 컴파일한다.
+public final class DateExtractor {
+
+    public enum Kind {
+        // 연월일이 모두 적힌 날짜
+        EXACT,
+        // 연도 없이 월/일만 있어 기준일로 연도를 추정한 날짜
+        YEAR_INFERRED,
+        // 상시채용처럼 마감일이 없는 공고
+        ROLLING
+    }
+
+    public record DateMatch(LocalDate date, Kind kind, double confidence) {
+    }
+
+    private static final double EXACT_CONFIDENCE = 0.95;
+    private static final double DAY_FIRST_CONFIDENCE = 0.8;
+    private static final double YEAR_INFERRED_CONFIDENCE = 0.6;
+    private static final double ROLLING_CONFIDENCE = 0.5;
+
+    private static final Pattern DATE_PATTERN = Pattern.compile(
+        "(?<ymd>(?<y1>\\d{4})[./-](?<m1>\\d{1,2})[./-](?<d1>\\d{1,2}))"
+            + "|(?<korean>(?<y2>\\d{4})\\s*년\\s*(?<m2>\\d{1,2})\\s*월\\s*(?<d2>\\d{1,2})\\s*일)"
+            + "|(?<dmy>(?<d3>\\d{1,2})[.-](?<m3>\\d{1,2})[.-](?<y3>\\d{4}))"
+            + "|(?<until>~\\s*(?<m4>\\d{1,2})\\s*[./]\\s*(?<d4>\\d{1,2}))"
+            + "|(?<koreanMonthDay>(?<m5>\\d{1,2})\\s*월\\s*(?<d5>\\d{1,2})\\s*일)"
+            + "|(?<rolling>상시\\s*(?:채용|모집)|수시\\s*채용|채용\\s*시\\s*마감)"
+    );
+    // 전체 문자열이 "yyyy MM dd" 형태일 때만 인정 (본문 속 숫자 나열과 구분)
+    private static final Pattern SPACED_DATE = Pattern.compile("(\\d{4}) (\\d{2}) (\\d{2})");
+
+    private DateExtractor() {}
+
+    public static DateMatch find(String text) {
+        return find(text, LocalDate.now());
+    }
+
+    // 가장 신뢰도가 높은 표현을 돌려준다. 같은 신뢰도면 앞쪽이 이긴다. 없으면 null
+    public static DateMatch find(String text, LocalDate reference) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        DateMatch best = null;
+        Matcher matcher = DATE_PATTERN.matcher(text);
+        while (matcher.find()) {
+            DateMatch candidate = toMatch(matcher, reference);
+            if (candidate != null && (best == null || candidate.confidence() > best.confidence())) {
+                best = candidate;
+                if (best.confidence() >= EXACT_CONFIDENCE) {
+                    return best;
+                }
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+
+        Matcher spaced = SPACED_DATE.matcher(text.trim());
+        if (spaced.matches()) {
+            LocalDate date = dateOf(spaced.group(1), spaced.group(2), spaced.group(3));
+            if (date != null) {
+                return new DateMatch(date, Kind.EXACT, EXACT_CONFIDENCE);
+            }
+        }
+        return null;
+    }
+
+    private static DateMatch toMatch(Matcher matcher, LocalDate reference) {
+        if (matcher.group("ymd") != null) {
+            return exact(dateOf(matcher.group("y1"), matcher.group("m1"), matcher.group("d1")), EXACT_CONFIDENCE);
+        }
+        if (matcher.group("korean") != null) {
+            return exact(dateOf(matcher.group("y2"), matcher.group("m2"), matcher.group("d2")), EXACT_CONFIDENCE);
+        }
+        if (matcher.group("dmy") != null) {
+            return exact(dateOf(matcher.group("y3"), matcher.group("m3"), matcher.group("d3")), DAY_FIRST_CONFIDENCE);
+        }
+        if (matcher.group("until") != null) {
+            return inferYear(matcher.group("m4"), matcher.group("d4"), reference);
+        }
+        if (matcher.group("koreanMonthDay") != null) {
+            return inferYear(matcher.group("m5"), matcher.group("d5"), reference);
+        }
+        return new DateMatch(null, Kind.ROLLING, ROLLING_CONFIDENCE);
+    }
+
+    private static DateMatch exact(LocalDate date, double confidence) {
+        return date != null ? new DateMatch(date, Kind.EXACT, confidence) : null;
+    }
+
+    // 기준일보다 이미 지난 월/일이면 다음 해로 본다
+    private static DateMatch inferYear(String month, String day, LocalDate reference) {
+        LocalDate date = dateOf(Integer.toString(reference.getYear()), month, day);
+        if (date == null) {
+            return null;
+        }
+        if (date.isBefore(reference)) {
+            date = dateOf(Integer.toString(reference.getYear() + 1), month, day);
+        }
+        return date != null ? new DateMatch(date, Kind.YEAR_INFERRED, YEAR_INFERRED_CONFIDENCE) : null;
+    }
+
+    private static LocalDate dateOf(String year, String month, String day) {
+        try {
+            return LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+        } catch (DateTimeException | NumberFormatException e) {
+            return null;
+        }
+    }
+}
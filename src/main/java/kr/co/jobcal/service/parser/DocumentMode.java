@@ -0,0 +1,10 @@
+package kr.co.jobcal.service.parser;
+
+public enum DocumentMode {
+    // <head>를 포함한 전체 문서 (meta, title, ld+json 등이 필요한 파서)
+    FULL,
+    // <body> 안쪽만 파싱 (head의 script/style 비용을 건너뜀)
+    BODY_FRAGMENT,
+    // DOM 없이 원문 HTML을 직접 스캔하는 파서
+    RAW
+}
@@ -8,7 +8,7 @@ import org.jsoup.nodes.Element;
 public class GenericParser extends BaseParser {
 
     public GenericParser(String html) {
-        super(html);
+        super(html, DocumentMode.FULL);
     }
 
     @Override
@@ -36,7 +36,7 @@ public class GenericParser extends BaseParser {
     }
 
     private String extractCompanyName() {
-        Element meta = document.selectFirst("meta[property=og:site_name]");
+        Element meta = document().selectFirst("meta[property=og:site_name]");
         if (meta != null && meta.hasAttr("content")) {
             return cleanText(meta.attr("content"));
         }
@@ -50,7 +50,7 @@ public class GenericParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (!text.isBlank() && text.length() >= 2 && text.length() <= 50) {
@@ -62,7 +62,7 @@ public class GenericParser extends BaseParser {
     }
 
     private String extractJobTitle() {
-        Element meta = document.selectFirst("meta[property=og:title]");
+        Element meta = document().selectFirst("meta[property=og:title]");
         if (meta != null && meta.hasAttr("content")) {
             String title = meta.attr("content");
             if (title.contains(" - ")) {
@@ -71,7 +71,7 @@ public class GenericParser extends BaseParser {
             return cleanText(title);
         }
 
-        Element titleTag = document.selectFirst("title");
+        Element titleTag = document().selectFirst("title");
         if (titleTag != null) {
             String title = titleTag.text();
             if (title.contains(" - ")) {
@@ -80,7 +80,7 @@ public class GenericParser extends BaseParser {
             return cleanText(title);
         }
 
-        Element h1 = document.selectFirst("h1");
+        Element h1 = document().selectFirst("h1");
         if (h1 != null) {
             return cleanText(h1.text());
         }
@@ -90,31 +90,16 @@ public class GenericParser extends BaseParser {
 
     private LocalDate extractDeadline() {
         List<String> keywords = List.of("마감", "deadline", "지원마감", "채용마감", "접수마감", "모집마감", "채용기간");
-        String allText = document.text();
-
-        for (String keyword : keywords) {
-            if (allText != null && allText.toLowerCase().contains(keyword)) {
-                for (Element element : document.getAllElements()) {
-                    String text = element.text();
-                    if (text != null && text.toLowerCase().contains(keyword)) {
-                        LocalDate date = extractDate(cleanText(text));
-                        if (date != null) {
-                            return date;
-                        }
-                    }
-                }
-            }
-        }
-        return null;
+        return findDateNearKeywords(keywords);
     }
 
     private String extractDescription() {
-        Element meta = document.selectFirst("meta[property=og:description]");
+        Element meta = document().selectFirst("meta[property=og:description]");
         if (meta != null && meta.hasAttr("content")) {
             return cleanText(meta.attr("content"));
         }
 
-        Element metaDesc = document.selectFirst("meta[name=description]");
+        Element metaDesc = document().selectFirst("meta[name=description]");
         if (metaDesc != null && metaDesc.hasAttr("content")) {
             return cleanText(metaDesc.attr("content"));
         }
@@ -128,7 +113,7 @@ public class GenericParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (text.length() > 50) {
@@ -141,17 +126,6 @@ public class GenericParser extends BaseParser {
 
     private String extractLocation() {
         List<String> keywords = List.of("위치", "location", "근무지", "근무지역", "지역");
-        for (String keyword : keywords) {
-            for (Element element : document.getAllElements()) {
-                String text = element.text();
-                if (text != null && text.toLowerCase().contains(keyword)) {
-                    String cleaned = cleanText(text);
-                    if (!cleaned.isBlank() && cleaned.length() < 100) {
-                        return cleaned;
-                    }
-                }
-            }
-        }
-        return null;
+        return findTextNearKeywords(keywords, 100);
     }
 }
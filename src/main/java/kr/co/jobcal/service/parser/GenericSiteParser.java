@@ -0,0 +1,23 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GenericSiteParser implements SiteParser {
+
+    @Override
+    public String name() {
+        return "generic";
+    }
+
+    @Override
+    public List<String> hostSuffixes() {
+        return List.of();
+    }
+
+    @Override
+    public BaseParser create(String html) {
+        return new GenericParser(html);
+    }
+}
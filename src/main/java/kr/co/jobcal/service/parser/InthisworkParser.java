@@ -13,7 +13,7 @@ public class InthisworkParser extends BaseParser {
     private static final int DESCRIPTION_MAX_LENGTH = 10000;
 
     public InthisworkParser(String html) {
-        super(html);
+        super(html, DocumentMode.FULL);
     }
 
     @Override
@@ -65,7 +65,7 @@ public class InthisworkParser extends BaseParser {
             }
         }
 
-        for (Element heading : document.select("#content .post h5.wp-block-heading, .post h5.wp-block-heading")) {
+        for (Element heading : document().select("#content .post h5.wp-block-heading, .post h5.wp-block-heading")) {
             String text = cleanText(heading.text());
             if (!text.isBlank() && !text.equalsIgnoreCase("Affiliation") && !text.contains("합류")) {
                 return text;
@@ -98,22 +98,7 @@ public class InthisworkParser extends BaseParser {
             }
         }
 
-        for (Element element : document.getAllElements()) {
-            String text = cleanText(element.text());
-            if (text.isBlank()) {
-                continue;
-            }
-            String lower = text.toLowerCase();
-            for (String keyword : keywords) {
-                if (lower.contains(keyword.toLowerCase())) {
-                    LocalDate date = extractDate(text);
-                    if (date != null) {
-                        return date;
-                    }
-                }
-            }
-        }
-        return null;
+        return findDateNearKeywords(keywords);
     }
 
     private String extractDescription() {
@@ -126,7 +111,7 @@ public class InthisworkParser extends BaseParser {
 
         String best = null;
         for (String selector : selectors) {
-            for (Element element : document.select(selector)) {
+            for (Element element : document().select(selector)) {
                 String text = sanitizeDescription(element.wholeText());
                 if (text != null && text.length() > 30 && (best == null || text.length() > best.length())) {
                     best = text;
@@ -139,7 +124,7 @@ public class InthisworkParser extends BaseParser {
 
         List<String> fallbackSelectors = List.of("meta[property=og:description]", "meta[name=description]");
         for (String selector : fallbackSelectors) {
-            Element meta = document.selectFirst(selector);
+            Element meta = document().selectFirst(selector);
             if (meta != null && meta.hasAttr("content")) {
                 String text = sanitizeDescription(meta.attr("content"));
                 if (text != null && text.length() > 30) {
@@ -152,7 +137,7 @@ public class InthisworkParser extends BaseParser {
     }
 
     private String extractLocation() {
-        for (Element element : document.select("#content .post p, #content .post li, .post p, .post li")) {
+        for (Element element : document().select("#content .post p, #content .post li, .post p, .post li")) {
             String text = cleanText(element.text());
             if (text.isBlank()) {
                 continue;
@@ -168,7 +153,7 @@ public class InthisworkParser extends BaseParser {
     }
 
     private String extractEmploymentType() {
-        Elements headings = document.select("#content .post .fusion-content-tb-2 h5.wp-block-heading, #content .post .fusion-content-tb-1 h5.wp-block-heading, .post .fusion-content-tb-2 h5.wp-block-heading, .post .fusion-content-tb-1 h5.wp-block-heading");
+        Elements headings = document().select("#content .post .fusion-content-tb-2 h5.wp-block-heading, #content .post .fusion-content-tb-1 h5.wp-block-heading, .post .fusion-content-tb-2 h5.wp-block-heading, .post .fusion-content-tb-1 h5.wp-block-heading");
         for (int i = 0; i < headings.size() - 1; i++) {
             String current = cleanText(headings.get(i).text());
             if (current.equalsIgnoreCase("Affiliation") || current.contains("Affiliation")) {
@@ -190,7 +175,7 @@ public class InthisworkParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element link = document.selectFirst(selector);
+            Element link = document().selectFirst(selector);
             if (link != null && link.hasAttr("href")) {
                 String href = cleanText(link.attr("href"));
                 if (!href.isBlank()) {
@@ -210,7 +195,7 @@ public class InthisworkParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element == null) {
                 continue;
             }
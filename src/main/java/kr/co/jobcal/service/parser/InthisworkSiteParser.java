@@ -0,0 +1,23 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InthisworkSiteParser implements SiteParser {
+
+    @Override
+    public String name() {
+        return "inthiswork";
+    }
+
+    @Override
+    public List<String> hostSuffixes() {
+        return List.of("inthiswork.com");
+    }
+
+    @Override
+    public BaseParser create(String html) {
+        return new InthisworkParser(html);
+    }
+}
@@ -8,7 +8,7 @@ import org.jsoup.nodes.Element;
 public class JobKoreaParser extends BaseParser {
 
     public JobKoreaParser(String html) {
-        super(html);
+        super(html, DocumentMode.BODY_FRAGMENT);
     }
 
     @Override
@@ -43,7 +43,7 @@ public class JobKoreaParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (!text.isBlank() && text.length() < 100) {
@@ -62,7 +62,7 @@ public class JobKoreaParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (!text.isBlank()) {
@@ -75,18 +75,7 @@ public class JobKoreaParser extends BaseParser {
 
     private LocalDate extractDeadline() {
         List<String> keywords = List.of("마감", "deadline", "지원마감", "채용마감", "접수마감");
-        for (String keyword : keywords) {
-            for (Element element : document.getAllElements()) {
-                String text = element.text();
-                if (text != null && text.toLowerCase().contains(keyword)) {
-                    LocalDate date = extractDate(cleanText(text));
-                    if (date != null) {
-                        return date;
-                    }
-                }
-            }
-        }
-        return null;
+        return findDateNearKeywords(keywords);
     }
 
     private String extractDescription() {
@@ -97,7 +86,7 @@ public class JobKoreaParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (text.length() > 50) {
@@ -110,17 +99,6 @@ public class JobKoreaParser extends BaseParser {
 
     private String extractLocation() {
         List<String> keywords = List.of("위치", "location", "근무지", "근무지역");
-        for (String keyword : keywords) {
-            for (Element element : document.getAllElements()) {
-                String text = element.text();
-                if (text != null && text.toLowerCase().contains(keyword)) {
-                    String cleaned = cleanText(text);
-                    if (!cleaned.isBlank()) {
-                        return cleaned;
-                    }
-                }
-            }
-        }
-        return null;
+        return findTextNearKeywords(keywords, Integer.MAX_VALUE);
     }
 }
@@ -0,0 +1,23 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobKoreaSiteParser implements SiteParser {
+
+    @Override
+    public String name() {
+        return "jobkorea";
+    }
+
+    @Override
+    public List<String> hostSuffixes() {
+        return List.of("jobkorea.co.kr");
+    }
+
+    @Override
+    public BaseParser create(String html) {
+        return new JobKoreaParser(html);
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+// 여러 키워드를 한 번의 스캔으로 찾는 Aho–Corasick 오토마톤 (키워드 최대 64개, 소문자 기준)
+// 키워드에 나오는 문자만 1..k 클래스로 번호를 매기고, 나머지 문자는 모두 클래스 0(루트로 돌아감)으로 본다.
+// 실패 링크를 미리 따라가 둔 전이표 delta[state * stride + class]를 만들어서 매칭은 문자당 배열 조회 한 번이다.
+final class KeywordMatcher {
+
+    private static final int ASCII = 128;
+
+    private final List<String> keywords;
+    private final int[] asciiClasses = new int[ASCII];
+    // ASCII가 아닌 문자의 클래스 (open addressing, id 0 = 빈 칸)
+    private final char[] classChars;
+    private final int[] classIds;
+    private final int classMask;
+    private final int stride;
+    private final int[] delta;
+    private final long[] outputs;
+
+    KeywordMatcher(List<String> keywords) {
+        if (keywords.size() > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " keywords are supported");
+        }
+        this.keywords = keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+
+        int maxStates = 1;
+        BitSet used = new BitSet(Character.MAX_VALUE + 1);
+        for (String keyword : this.keywords) {
+            maxStates += keyword.length();
+            keyword.chars().forEach(used::set);
+        }
+
+        // 채움률 50% 이하가 되도록 2의 거듭제곱 크기로 잡는다
+        int nonAscii = used.get(ASCII, Character.MAX_VALUE + 1).cardinality();
+        int capacity = Integer.highestOneBit(Math.max(nonAscii, 1)) << 2;
+        this.classChars = new char[capacity];
+        this.classIds = new int[capacity];
+        this.classMask = capacity - 1;
+        int classCount = 0;
+        for (int c = used.nextSetBit(0); c >= 0; c = used.nextSetBit(c + 1)) {
+            assignClass((char) c, ++classCount);
+        }
+        this.stride = classCount + 1;
+
+        // 트라이 전이 (-1 = 없음)
+        int[] trie = new int[maxStates * stride];
+        Arrays.fill(trie, -1);
+        long[] terminals = new long[maxStates];
+        int stateCount = 1;
+        for (int i = 0; i < this.keywords.size(); i++) {
+            String keyword = this.keywords.get(i);
+            int state = 0;
+            for (int j = 0; j < keyword.length(); j++) {
+                int slot = state * stride + charClass(keyword.charAt(j));
+                if (trie[slot] < 0) {
+                    trie[slot] = stateCount++;
+                }
+                state = trie[slot];
+            }
+            terminals[state] |= 1L << i;
+        }
+
+        this.delta = new int[stateCount * stride];
+        this.outputs = Arrays.copyOf(terminals, stateCount);
+        buildTransitions(trie, stateCount);
+    }
+
+    int indexOf(String keyword) {
+        return keywords.indexOf(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    int size() {
+        return keywords.size();
+    }
+
+    // 텍스트에 포함된 키워드들의 비트마스크 (bit i = keywords[i])
+    long match(CharSequence lowerCaseText) {
+        long found = 0L;
+        int state = 0;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            state = delta[state * stride + charClass(lowerCaseText.charAt(i))];
+            found |= outputs[state];
+        }
+        return found;
+    }
+
+    private int charClass(char c) {
+        if (c < ASCII) {
+            return asciiClasses[c];
+        }
+        int slot = hash(c) & classMask;
+        while (true) {
+            int id = classIds[slot];
+            if (id == 0 || classChars[slot] == c) {
+                return id;
+            }
+            slot = (slot + 1) & classMask;
+        }
+    }
+
+    private void assignClass(char c, int id) {
+        if (c < ASCII) {
+            asciiClasses[c] = id;
+            return;
+        }
+        int slot = hash(c) & classMask;
+        while (classIds[slot] != 0) {
+            slot = (slot + 1) & classMask;
+        }
+        classChars[slot] = c;
+        classIds[slot] = id;
+    }
+
+    private static int hash(char c) {
+        int h = c * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // 너비 우선으로 돌며 트라이에 없는 전이는 실패 링크의 전이로 채운다. 클래스 0 열은 모두 루트다.
+    private void buildTransitions(int[] trie, int stateCount) {
+        int[] failure = new int[stateCount];
+        int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        for (int cls = 1; cls < stride; cls++) {
+            int child = trie[cls];
+            if (child >= 0) {
+                delta[cls] = child;
+                queue[tail++] = child;
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            int base = state * stride;
+            int fallbackBase = failure[state] * stride;
+            outputs[state] |= outputs[failure[state]];
+            for (int cls = 1; cls < stride; cls++) {
+                int child = trie[base + cls];
+                if (child >= 0) {
+                    failure[child] = delta[fallbackBase + cls];
+                    delta[base + cls] = child;
+                    queue[tail++] = child;
+                } else {
+                    delta[base + cls] = delta[fallbackBase + cls];
+                }
+            }
+        }
+    }
+}
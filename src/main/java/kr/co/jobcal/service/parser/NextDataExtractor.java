@@ -0,0 +1,78 @@
+package kr.co.jobcal.service.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+
+// DOM을 만들지 않고 원문 HTML에서 script#__NEXT_DATA__ JSON의 특정 경로만 스트리밍으로 읽는다
+final class NextDataExtractor {
+
+    private static final String ID_MARKER = "id=\"__NEXT_DATA__\"";
+    private static final String SCRIPT_OPEN = "<script";
+
+    private NextDataExtractor() {}
+
+    // 경로의 노드를 돌려준다. 스크립트를 못 찾거나 경로가 없으면 null
+    static JsonNode extract(String html, ObjectMapper objectMapper, String... path) {
+        int start = locatePayload(html);
+        if (start < 0) {
+            return null;
+        }
+
+        try (StringReader reader = new StringReader(html)) {
+            reader.skip(start);
+            try (JsonParser parser = objectMapper.createParser(reader)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                for (int depth = 0; depth < path.length; depth++) {
+                    if (!advanceToField(parser, path[depth])) {
+                        return null;
+                    }
+                    JsonToken token = parser.nextToken();
+                    if (depth == path.length - 1) {
+                        return token == JsonToken.VALUE_NULL ? null : parser.readValueAsTree();
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        return null;
+                    }
+                }
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // <script ... id="__NEXT_DATA__" ...> 의 여는 태그 직후 위치
+    static int locatePayload(String html) {
+        if (html == null) {
+            return -1;
+        }
+        int idIndex = html.indexOf(ID_MARKER);
+        if (idIndex < 0) {
+            return -1;
+        }
+        int scriptStart = html.lastIndexOf(SCRIPT_OPEN, idIndex);
+        if (scriptStart < 0 || html.indexOf('>', scriptStart) < idIndex) {
+            return -1;
+        }
+        int tagEnd = html.indexOf('>', idIndex);
+        return tagEnd < 0 ? -1 : tagEnd + 1;
+    }
+
+    // 현재 object 안에서 fieldName까지 이동한다. 다른 필드 값은 건너뛴다.
+    private static boolean advanceToField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (fieldName.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.List;
+import kr.co.jobcal.global.utils.BodyCutoff;
+import kr.co.jobcal.global.utils.ContentHash;
+
+// 채용 사이트별 파서 진입점. 스프링 빈으로 등록하면 SiteParserRegistry가 호스트로 찾아준다.
+public interface SiteParser {
+
+    // 로그/메트릭용 이름
+    String name();
+
+    // 담당하는 호스트 접미사. "wanted.co.kr"이면 wanted.co.kr과 모든 하위 도메인.
+    // 비어 있으면 어느 사이트에도 속하지 않는 URL을 받는 fallback 파서
+    List<String> hostSuffixes();
+
+    // 필요한 부분까지만 받고 다운로드를 끊을 지점 (없으면 전체)
+    default BodyCutoff bodyCutoff() {
+        return null;
+    }
+
+    // 내용이 바뀌었는지 판단하는 지문. 요청마다 달라지는 부분(nonce, 빌드 ID 등)이 없는 영역을 해시하는 게 좋다.
+    default String fingerprint(String html) {
+        return ContentHash.sha256Hex(html);
+    }
+
+    BaseParser create(String html);
+}
@@ -0,0 +1,79 @@
+package kr.co.jobcal.service.parser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// 호스트 라벨을 뒤에서부터 따라가는 트라이로 SiteParser를 찾는다 (www.wanted.co.kr → kr → co → wanted)
+@Component
+public class SiteParserRegistry {
+
+    private final Node root = new Node();
+    private final SiteParser fallback;
+
+    public SiteParserRegistry(List<SiteParser> siteParsers) {
+        SiteParser fallbackParser = null;
+        for (SiteParser siteParser : siteParsers) {
+            if (siteParser.hostSuffixes().isEmpty()) {
+                if (fallbackParser != null) {
+                    throw new IllegalStateException(
+                        "Multiple fallback site parsers: " + fallbackParser.name() + ", " + siteParser.name()
+                    );
+                }
+                fallbackParser = siteParser;
+                continue;
+            }
+            for (String suffix : siteParser.hostSuffixes()) {
+                register(suffix, siteParser);
+            }
+        }
+        if (fallbackParser == null) {
+            throw new IllegalStateException("No fallback site parser registered");
+        }
+        this.fallback = fallbackParser;
+    }
+
+    // 가장 길게 일치하는 접미사의 파서, 없으면 fallback
+    public SiteParser resolve(String host) {
+        if (host == null || host.isBlank()) {
+            return fallback;
+        }
+        SiteParser matched = null;
+        Node node = root;
+        int end = host.length();
+        while (end > 0 && node != null) {
+            int dot = host.lastIndexOf('.', end - 1);
+            node = node.children.get(host.substring(dot + 1, end));
+            if (node != null && node.parser != null) {
+                matched = node.parser;
+            }
+            end = dot;
+        }
+        return matched != null ? matched : fallback;
+    }
+
+    public boolean isFallback(SiteParser siteParser) {
+        return siteParser == fallback;
+    }
+
+    private void register(String suffix, SiteParser siteParser) {
+        String[] labels = suffix.toLowerCase(Locale.ROOT).split("\\.");
+        Node node = root;
+        for (int i = labels.length - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(labels[i], label -> new Node());
+        }
+        if (node.parser != null && node.parser != siteParser) {
+            throw new IllegalStateException(
+                "Host suffix " + suffix + " claimed by both " + node.parser.name() + " and " + siteParser.name()
+            );
+        }
+        node.parser = siteParser;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private SiteParser parser;
+    }
+}
@@ -15,7 +15,7 @@ public class WantedParser extends BaseParser {
     private static final int DESCRIPTION_MAX_LENGTH = 10000;
 
     public WantedParser(String html) {
-        super(html);
+        super(html, DocumentMode.FULL);
     }
 
     @Override
@@ -101,7 +101,7 @@ public class WantedParser extends BaseParser {
             return companyName;
         }
 
-        Element companyLink = document.selectFirst("a[class*=\"JobHeader_JobHeader__Tools__Company__Link\"]");
+        Element companyLink = document().selectFirst("a[class*=\"JobHeader_JobHeader__Tools__Company__Link\"]");
         if (companyLink != null) {
             String text = cleanText(companyLink.text());
             if (!text.isBlank()) {
@@ -123,7 +123,7 @@ public class WantedParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (!text.isBlank() && text.length() < 100) {
@@ -148,7 +148,7 @@ public class WantedParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = cleanText(element.text());
                 if (!text.isBlank()) {
@@ -171,18 +171,7 @@ public class WantedParser extends BaseParser {
         }
 
         List<String> keywords = List.of("마감", "deadline", "지원마감", "채용마감");
-        for (String keyword : keywords) {
-            for (Element element : document.getAllElements()) {
-                String text = element.text();
-                if (text != null && text.toLowerCase().contains(keyword)) {
-                    LocalDate date = extractDate(cleanText(text));
-                    if (date != null) {
-                        return date;
-                    }
-                }
-            }
-        }
-        return null;
+        return findDateNearKeywords(keywords);
     }
 
     private String extractRawDescription(JsonNode initialData) {
@@ -200,7 +189,7 @@ public class WantedParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element == null) {
                 continue;
             }
@@ -231,7 +220,7 @@ public class WantedParser extends BaseParser {
         );
 
         for (String selector : selectors) {
-            Element element = document.selectFirst(selector);
+            Element element = document().selectFirst(selector);
             if (element != null) {
                 String text = normalizeRawText(element.wholeText());
                 if (text.length() > 50) {
@@ -247,7 +236,7 @@ public class WantedParser extends BaseParser {
             return null;
         }
 
-        for (Element heading : document.select("h1, h2, h3, h4, h5, strong, dt, th")) {
+        for (Element heading : document().select("h1, h2, h3, h4, h5, strong, dt, th")) {
             String headingText = cleanText(heading.text());
             if (containsKeyword(headingText, keywords)) {
                 String collected = collectSectionText(heading);
@@ -257,10 +246,11 @@ public class WantedParser extends BaseParser {
             }
         }
 
-        for (Element element : document.getAllElements()) {
-            String text = cleanText(element.text());
-            if (containsKeyword(text, keywords)) {
-                String parentText = element.parent() != null ? cleanText(element.parent().text()) : text;
+        for (String keyword : keywords) {
+            for (Element element : elementsContaining(keyword)) {
+                String parentText = element.parent() != null
+                    ? cleanText(element.parent().text())
+                    : cleanText(element.text());
                 if (parentText.length() > 30 && parentText.length() < 1000) {
                     return parentText;
                 }
@@ -328,7 +318,7 @@ public class WantedParser extends BaseParser {
             return locality + " " + district;
         }
 
-        Element companyInfo = document.selectFirst("span[class*=\"JobHeader_JobHeader__Tools__Company__Info\"]");
+        Element companyInfo = document().selectFirst("span[class*=\"JobHeader_JobHeader__Tools__Company__Info\"]");
         if (companyInfo != null) {
             String text = cleanText(companyInfo.text());
             if (!text.isBlank()) {
@@ -336,7 +326,7 @@ public class WantedParser extends BaseParser {
             }
         }
 
-        Element locationTestId = document.selectFirst("[data-testid*=location], [data-testid*=company-location]");
+        Element locationTestId = document().selectFirst("[data-testid*=location], [data-testid*=company-location]");
         if (locationTestId != null) {
             String text = cleanText(locationTestId.text());
             if (!text.isBlank()) {
@@ -345,18 +335,7 @@ public class WantedParser extends BaseParser {
         }
 
         List<String> keywords = List.of("위치", "location", "근무지");
-        for (String keyword : keywords) {
-            for (Element element : document.getAllElements()) {
-                String text = element.text();
-                if (text != null && text.toLowerCase().contains(keyword)) {
-                    String cleaned = cleanText(text);
-                    if (!cleaned.isBlank()) {
-                        return cleaned;
-                    }
-                }
-            }
-        }
-        return null;
+        return findTextNearKeywords(keywords, Integer.MAX_VALUE);
     }
 
     private String extractResponsibilities(JsonNode initialData) {
@@ -493,7 +472,12 @@ public class WantedParser extends BaseParser {
     }
 
     private JsonNode extractWantedInitialDataNode() {
-        Element nextData = document.selectFirst("script#__NEXT_DATA__");
+        if (NextDataExtractor.locatePayload(html) >= 0) {
+            JsonNode initialData = NextDataExtractor.extract(html, OBJECT_MAPPER, "props", "pageProps", "initialData");
+            return initialData == null || initialData.isMissingNode() ? null : initialData;
+        }
+
+        Element nextData = document().selectFirst("script#__NEXT_DATA__");
         if (nextData == null) {
             return null;
         }
@@ -508,7 +492,7 @@ public class WantedParser extends BaseParser {
     }
 
     private String extractFromJobPostingLdJson(String fieldName) {
-        for (Element script : document.select("script[type='application/ld+json']")) {
+        for (Element script : document().select("script[type='application/ld+json']")) {
             try {
                 JsonNode node = OBJECT_MAPPER.readTree(script.html());
                 if (!"JobPosting".equals(node.path("@type").asText())) {
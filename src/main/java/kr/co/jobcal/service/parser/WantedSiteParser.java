@@ -0,0 +1,43 @@
+package kr.co.jobcal.service.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import kr.co.jobcal.global.utils.BodyCutoff;
+import kr.co.jobcal.global.utils.ContentHash;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WantedSiteParser implements SiteParser {
+
+    // 원티드 파서는 __NEXT_DATA__ 이후의 본문이 필요 없다
+    private static final BodyCutoff CUTOFF = BodyCutoff.afterScript("__NEXT_DATA__");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String name() {
+        return "wanted";
+    }
+
+    @Override
+    public List<String> hostSuffixes() {
+        return List.of("wanted.co.kr");
+    }
+
+    @Override
+    public BodyCutoff bodyCutoff() {
+        return CUTOFF;
+    }
+
+    // 공고 본문은 initialData에만 있다. 페이지의 나머지(buildId, 추천 공고 등)는 요청마다 바뀐다.
+    @Override
+    public String fingerprint(String html) {
+        JsonNode initialData = NextDataExtractor.extract(html, OBJECT_MAPPER, "props", "pageProps", "initialData");
+        return ContentHash.sha256Hex(initialData != null ? initialData.toString() : html);
+    }
+
+    @Override
+    public BaseParser create(String html) {
+        return new WantedParser(html);
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co.jobcal.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class ApplicationCursorTest {
+
+    @Test
+    void roundTripsThroughEncode() {
+        ApplicationCursor cursor = new ApplicationCursor(LocalDateTime.of(2025, 3, 31, 23, 59, 1, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(ApplicationCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeSecondsAndLargeIds() {
+        ApplicationCursor cursor = new ApplicationCursor(LocalDateTime.of(2025, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(ApplicationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> ApplicationCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ApplicationCursor.decode(encode("2025-01-01T00:00"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ApplicationCursor.decode(encode("yesterday|1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ApplicationCursor.decode(encode("2025-01-01T00:00|x"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package kr.co.jobcal.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, OPEN_DURATION, clock);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        assertThat(breaker.onFailure()).isFalse();
+        assertThat(breaker.onFailure()).isTrue();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void halfOpenAllowsASingleTrial() {
+        open();
+        clock.advance(OPEN_DURATION);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialReopensTheCircuit() {
+        open();
+        clock.advance(OPEN_DURATION);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        assertThat(breaker.onFailure()).isTrue();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        clock.advance(OPEN_DURATION.minusSeconds(1));
+        assertThat(breaker.tryAcquire()).isFalse();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void releasedTrialCanBeTakenAgain() {
+        open();
+        clock.advance(OPEN_DURATION);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.release();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void open() {
+        breaker.onFailure();
+        breaker.onFailure();
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co.jobcal.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final HashedTimingWheel<String, String> wheel = new HashedTimingWheel<>(Duration.ofMinutes(1), 8, START);
+
+    @Test
+    void firesEntriesAcrossTheWrapAround() {
+        wheel.schedule("a", at(7), "a");
+        wheel.schedule("b", at(9), "b");
+
+        assertThat(wheel.advance(at(6))).isEmpty();
+        assertThat(wheel.advance(at(8))).containsExactly("a");
+        assertThat(wheel.advance(at(9))).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void keepsMultiLapEntriesUntilTheirRound() {
+        // 20분 = 8칸 휠의 4번 슬롯, 세 번째 바퀴
+        wheel.schedule("far", at(20), "far");
+
+        assertThat(wheel.advance(at(4))).isEmpty();
+        assertThat(wheel.advance(at(12))).isEmpty();
+        assertThat(wheel.advance(at(19))).isEmpty();
+        assertThat(wheel.advance(at(20))).containsExactly("far");
+    }
+
+    @Test
+    void catchesUpMoreThanOneRevolutionAtOnce() {
+        wheel.schedule("a", at(3), "a");
+        wheel.schedule("b", at(20), "b");
+        wheel.schedule("c", at(50), "c");
+
+        assertThat(wheel.advance(at(100))).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void roundsDeadlinesUpToTheNextTick() {
+        wheel.schedule("a", START.plusSeconds(90), "a");
+
+        assertThat(wheel.advance(START.plusSeconds(119))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(120))).containsExactly("a");
+    }
+
+    @Test
+    void firesPastDeadlinesOnTheNextTick() {
+        wheel.advance(at(3));
+        wheel.schedule("late", at(-5), "late");
+
+        assertThat(wheel.advance(at(3).plusSeconds(30))).isEmpty();
+        assertThat(wheel.advance(at(4))).containsExactly("late");
+    }
+
+    @Test
+    void cancelledEntriesNeverFire() {
+        wheel.schedule("a", at(2), "a");
+        wheel.schedule("b", at(10), "b");
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.cancel("a")).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(at(2))).isEmpty();
+
+        wheel.cancel("b");
+        assertThat(wheel.advance(at(30))).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void reschedulingReplacesTheEarlierEntry() {
+        wheel.schedule("a", at(2), "first");
+        wheel.schedule("a", at(5), "second");
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(at(2))).isEmpty();
+        assertThat(wheel.advance(at(5))).containsExactly("second");
+    }
+
+    private static Instant at(int minutes) {
+        return START.plus(Duration.ofMinutes(minutes));
+    }
+}
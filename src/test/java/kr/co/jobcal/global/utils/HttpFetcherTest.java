@@ -0,0 +1,133 @@
+package kr.co.jobcal.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class HttpFetcherTest {
+
+    private HttpServer server;
+    private HttpFetcher fetcher;
+    private String base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, "<html>ok</html>".getBytes(StandardCharsets.UTF_8), false));
+        server.createContext("/gzip", exchange -> respond(exchange, 200, gzip("<html>gz</html>"), true));
+        server.createContext("/empty", exchange -> respond(exchange, 200, new byte[0], true));
+        server.createContext("/not-modified", exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+        });
+        server.createContext("/to-metadata", exchange -> redirect(exchange, "http://169.254.169.254/latest/meta-data"));
+        server.createContext("/to-self", exchange -> redirect(exchange, "/ok"));
+        server.createContext("/error", exchange -> respond(exchange, 503, new byte[0], false));
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        fetcher = new HttpFetcher(
+            Duration.ofSeconds(2), Duration.ofSeconds(2), 4, true, 4, DataSize.ofMegabytes(1),
+            100, 100, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), 16, Duration.ofMinutes(1),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void fetchesAndDecodesGzipBodies() {
+        assertThat(fetch("/ok").getBody()).isEqualTo("<html>ok</html>");
+        assertThat(fetch("/gzip").getBody()).isEqualTo("<html>gz</html>");
+    }
+
+    @Test
+    void doesNotDecodeEmptyOrNotModifiedResponses() {
+        FetchResult empty = fetch("/empty");
+        assertThat(empty.isSuccess()).isTrue();
+        assertThat(empty.getBody()).isEmpty();
+
+        FetchResult notModified = fetcher.fetchAsync(base + "/not-modified", "other", "\"v1\"", null, null).join();
+        assertThat(notModified.isNotModified()).isTrue();
+    }
+
+    @Test
+    void rejectsRedirectsToNonPublicAddresses() {
+        assertThat(fetch("/to-metadata").getRejectedReason()).isEqualTo("redirect to non-public address");
+        // 127.0.0.1 자체도 공개 주소가 아니므로 같은 서버로의 리다이렉트도 막힌다
+        assertThat(fetch("/to-self").isRejected()).isTrue();
+    }
+
+    @Test
+    void opensTheCircuitAfterRepeatedOriginFailures() {
+        assertThat(fetch("/error").getStatusCode()).isEqualTo(503);
+        assertThat(fetch("/error").getStatusCode()).isEqualTo(503);
+
+        FetchResult blocked = fetch("/ok");
+
+        assertThat(blocked.isRejected()).isTrue();
+        assertThat(blocked.getRejectedReason()).startsWith("circuit open");
+    }
+
+    @Test
+    void completesConcurrentFetchesAsynchronously() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[8];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = fetcher.fetchAsync(base + "/ok", "other", null, null, null);
+        }
+
+        CompletableFuture.allOf(futures).orTimeout(10, TimeUnit.SECONDS).join();
+
+        for (CompletableFuture<?> future : futures) {
+            assertThat(((FetchResult) future.join()).getBody()).isEqualTo("<html>ok</html>");
+        }
+    }
+
+    private FetchResult fetch(String path) {
+        return fetcher.fetchAsync(base + path, "other", null, null, null).orTimeout(10, TimeUnit.SECONDS).join();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body, boolean gzip) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+        if (gzip) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.jobcal.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void burstIsAvailableImmediately() {
+        TokenBucket bucket = new TokenBucket(1, 3, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.reserve(Duration.ZERO)).isEqualTo(Duration.ZERO);
+        }
+        assertThat(bucket.reserve(Duration.ZERO)).isNull();
+    }
+
+    @Test
+    void reservesAheadUntilTheWaitExceedsTheBudget() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock);
+        Duration maxWait = Duration.ofSeconds(1);
+
+        assertThat(bucket.reserve(maxWait)).isEqualTo(Duration.ZERO);
+        assertThat(bucket.reserve(maxWait)).isEqualTo(Duration.ofMillis(500));
+        assertThat(bucket.reserve(maxWait)).isEqualTo(Duration.ofSeconds(1));
+        // 1.5초를 기다려야 하므로 예약하지 않는다
+        assertThat(bucket.reserve(maxWait)).isNull();
+        assertThat(bucket.reserve(maxWait)).isNull();
+
+        clock.advance(Duration.ofMillis(500));
+        assertThat(bucket.reserve(maxWait)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock);
+        bucket.reserve(Duration.ZERO);
+        bucket.reserve(Duration.ZERO);
+
+        clock.advance(Duration.ofHours(1));
+
+        assertThat(bucket.reserve(Duration.ZERO)).isEqualTo(Duration.ZERO);
+        assertThat(bucket.reserve(Duration.ZERO)).isEqualTo(Duration.ZERO);
+        assertThat(bucket.reserve(Duration.ZERO)).isNull();
+    }
+}
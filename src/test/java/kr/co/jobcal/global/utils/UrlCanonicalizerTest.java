@@ -0,0 +1,49 @@
+package kr.co.jobcal.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class UrlCanonicalizerTest {
+
+    @Test
+    void sortsQueryParameters() {
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/jobs?b=2&a=1&c=3"))
+            .isEqualTo("https://example.com/jobs?a=1&b=2&c=3");
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/jobs?a=1&b=2"))
+            .isEqualTo(UrlCanonicalizer.canonicalize("https://example.com/jobs?b=2&a=1"));
+    }
+
+    @Test
+    void stripsTrackingParameters() {
+        assertThat(UrlCanonicalizer.canonicalize(
+            "https://example.com/jobs/1?utm_source=x&UTM_Medium=y&gclid=z&fbclid=w&ref=home&id=7"
+        )).isEqualTo("https://example.com/jobs/1?id=7");
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/jobs/1?utm_campaign=spring"))
+            .isEqualTo("https://example.com/jobs/1");
+    }
+
+    @Test
+    void normalizesSchemeHostPortAndPath() {
+        assertThat(UrlCanonicalizer.canonicalize("HTTPS://Example.COM:443/jobs/1///"))
+            .isEqualTo("https://example.com/jobs/1");
+        assertThat(UrlCanonicalizer.canonicalize("http://example.com:8080"))
+            .isEqualTo("http://example.com:8080/");
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/jobs?&&a=1&"))
+            .isEqualTo("https://example.com/jobs?a=1");
+    }
+
+    @Test
+    void rejectsUnparseableUrls() {
+        assertThat(UrlCanonicalizer.canonicalize(null)).isNull();
+        assertThat(UrlCanonicalizer.canonicalize("  ")).isNull();
+        assertThat(UrlCanonicalizer.canonicalize("/jobs/1")).isNull();
+        assertThat(UrlCanonicalizer.canonicalize("https://exa mple.com/")).isNull();
+    }
+
+    @Test
+    void extractsHostFromCanonicalForm() {
+        assertThat(UrlCanonicalizer.hostOfCanonical("https://example.com:8080/jobs")).isEqualTo("example.com");
+        assertThat(UrlCanonicalizer.hostOfCanonical("https://example.com/")).isEqualTo("example.com");
+    }
+}
@@ -0,0 +1,150 @@
+package kr.co.jobcal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import kr.co.jobcal.dto.NotificationDigest;
+import kr.co.jobcal.entity.NotificationOutbox;
+import kr.co.jobcal.entity.NotificationOutboxStatus;
+import kr.co.jobcal.repository.NotificationOutboxRepository;
+import kr.co.jobcal.repository.UserRepository;
+import kr.co.jobcal.service.notification.NotificationChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class NotificationDeliveryServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StubChannel channel = new StubChannel();
+    private NotificationDeliveryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationDeliveryService(
+            outboxRepository, userRepository, channel, new SimpleMeterRegistry(),
+            true, 10, MAX_ATTEMPTS, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofMinutes(5)
+        );
+        when(userRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(outboxRepository.findDueUserIds(eq(NotificationOutboxStatus.PENDING), any(), any(Limit.class)))
+            .thenReturn(List.of("user-1"));
+    }
+
+    @Test
+    void backoffDoublesAndIsCappedAtMaxBackoff() {
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(service.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(service.backoff(4)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(service.backoff(5)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(service.backoff(100)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void claimThatReturnsNoRowsSkipsDelivery() {
+        when(outboxRepository.claimDueForUser(eq("user-1"), any(), anyString(), any())).thenReturn(0);
+
+        service.deliverPending();
+
+        assertThat(channel.sent).isEmpty();
+        verify(outboxRepository, never()).findClaimed(anyString());
+    }
+
+    @Test
+    void recordsSentOnlyForTheClaimToken() {
+        ArgumentCaptor<String> token = claim(outbox(1L, 0));
+        when(outboxRepository.markSent(anyList(), anyString(), any())).thenReturn(1);
+
+        service.deliverPending();
+
+        assertThat(channel.sent).hasSize(1);
+        verify(outboxRepository).markSent(eq(List.of(1L)), eq(token.getValue()), any());
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoffUntilMaxAttempts() {
+        channel.failing = true;
+        ArgumentCaptor<String> token = claim(outbox(1L, 0), outbox(2L, MAX_ATTEMPTS - 1));
+        LocalDateTime before = LocalDateTime.now();
+
+        service.deliverPending();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).markAttemptFailed(
+            eq(List.of(1L)), eq(token.getValue()), eq(NotificationOutboxStatus.PENDING), nextAttemptAt.capture(), eq("down")
+        );
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusMinutes(1));
+        verify(outboxRepository).markAttemptFailed(
+            eq(List.of(2L)), eq(token.getValue()), eq(NotificationOutboxStatus.FAILED), any(), eq("down")
+        );
+    }
+
+    @Test
+    void failureForOneUserDoesNotStopTheOthers() {
+        when(outboxRepository.findDueUserIds(eq(NotificationOutboxStatus.PENDING), any(), any(Limit.class)))
+            .thenReturn(List.of("user-1", "user-2"));
+        when(outboxRepository.claimDueForUser(eq("user-1"), any(), anyString(), any()))
+            .thenThrow(new IllegalStateException("db down"));
+        when(outboxRepository.claimDueForUser(eq("user-2"), any(), anyString(), any())).thenReturn(1);
+        when(outboxRepository.findClaimed(anyString())).thenReturn(List.of(outbox(1L, 0)));
+
+        service.deliverPending();
+
+        assertThat(channel.sent).extracting(NotificationDigest::userId).containsExactly("user-2");
+    }
+
+    private ArgumentCaptor<String> claim(NotificationOutbox... messages) {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(outboxRepository.claimDueForUser(eq("user-1"), any(), token.capture(), any())).thenReturn(messages.length);
+        when(outboxRepository.findClaimed(anyString())).thenReturn(List.of(messages));
+        return token;
+    }
+
+    private static NotificationOutbox outbox(long id, int attempts) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        outbox.setUserId("user-1");
+        outbox.setApplicationId(id);
+        outbox.setDeadline(LocalDate.now().plusDays(3));
+        outbox.setLeadDays(3);
+        outbox.setAttempts(attempts);
+        return outbox;
+    }
+
+    private static class StubChannel implements NotificationChannel {
+
+        private final List<NotificationDigest> sent = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public String name() {
+            return "stub";
+        }
+
+        @Override
+        public void send(NotificationDigest digest) {
+            if (failing) {
+                throw new IllegalStateException("down");
+            }
+            sent.add(digest);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.jobcal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ParseBatchServiceTest {
+
+    @Test
+    void groupsUrlsThatCanonicalizeToTheSamePosting() {
+        List<String> urls = List.of(
+            "https://example.com/jobs/1?utm_source=x",
+            "https://example.com/jobs/2",
+            "HTTPS://Example.com/jobs/1/",
+            "not a url",
+            "https://example.com/jobs/2?ref=home",
+            "not a url"
+        );
+
+        List<List<Integer>> groups = ParseBatchService.groupByCanonicalUrl(urls);
+
+        assertThat(groups).containsExactly(List.of(0, 2), List.of(1, 4), List.of(3, 5));
+    }
+}
@@ -0,0 +1,159 @@
+package kr.co.jobcal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.co.jobcal.global.utils.FetchResult;
+import kr.co.jobcal.global.utils.HttpFetcher;
+import kr.co.jobcal.service.ParserService.ParserResult;
+import kr.co.jobcal.service.parser.BaseParser;
+import kr.co.jobcal.service.parser.GenericParser;
+import kr.co.jobcal.service.parser.GenericSiteParser;
+import kr.co.jobcal.service.parser.SiteParser;
+import kr.co.jobcal.service.parser.SiteParserRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParserServiceTest {
+
+    private static final int CALLERS = 8;
+    private static final String URL = "https://jobs.example.com/postings/1";
+
+    private final HttpFetcher httpFetcher = mock(HttpFetcher.class);
+    private final JobPostingService jobPostingService = mock(JobPostingService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private ParserService parserService;
+
+    @BeforeEach
+    void setUp() {
+        SiteParserRegistry registry = new SiteParserRegistry(List.of(new ExampleSiteParser(), new GenericSiteParser()));
+        parserService = new ParserService(
+            new JobDescriptionFormatter(), httpFetcher, jobPostingService, registry, mock(ParseCacheService.class),
+            meterRegistry, 100, Duration.ofMinutes(10), Duration.ofMillis(300)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForOneCanonicalUrlFetchOnce() throws Exception {
+        CompletableFuture<FetchResult> response = new CompletableFuture<>();
+        when(httpFetcher.fetchAsync(anyString(), anyString(), any(), any(), any())).thenReturn(response);
+
+        List<Future<ParserResult>> results = parseConcurrently();
+        awaitFollowers();
+        response.complete(new FetchResult(200, "<html><title>Backend Engineer</title></html>", null, null));
+
+        for (Future<ParserResult> result : results) {
+            ParserResult parsed = result.get(5, TimeUnit.SECONDS);
+            assertThat(parsed.isSuccess()).isTrue();
+            assertThat(parsed.getData().getOriginalUrl()).startsWith(URL);
+        }
+        verify(httpFetcher, times(1)).fetchAsync(anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void followersGiveUpOnAHungLeaderAfterTheCoalesceTimeout() throws Exception {
+        CompletableFuture<FetchResult> response = new CompletableFuture<>();
+        when(httpFetcher.fetchAsync(anyString(), anyString(), any(), any(), any())).thenReturn(response);
+
+        List<Future<ParserResult>> results = parseConcurrently();
+        awaitFollowers();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (results.stream().filter(Future::isDone).count() < CALLERS - 1) {
+            assertThat(System.nanoTime()).as("followers completed").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+
+        // 앞선 요청 자체는 아직 응답을 기다리는 중이다
+        List<Future<ParserResult>> done = results.stream().filter(Future::isDone).toList();
+        assertThat(done).hasSize(CALLERS - 1);
+        for (Future<ParserResult> result : done) {
+            assertThat(result.get().getError()).isEqualTo("채용 사이트 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+        response.complete(FetchResult.failed());
+    }
+
+    @Test
+    void leaderErrorCompletesEveryFollower() throws Exception {
+        CountDownLatch followersJoined = new CountDownLatch(1);
+        when(jobPostingService.findByOriginalUrl(anyString())).thenAnswer(invocation -> {
+            followersJoined.await();
+            throw new AssertionError("boom");
+        });
+
+        List<Future<ParserResult>> results = parseConcurrently();
+        awaitFollowers();
+        followersJoined.countDown();
+
+        int failed = 0;
+        for (Future<ParserResult> result : results) {
+            try {
+                ParserResult parsed = result.get(1, TimeUnit.SECONDS);
+                assertThat(parsed.isSuccess()).isFalse();
+                assertThat(parsed.getError()).contains("boom");
+                failed++;
+            } catch (ExecutionException leader) {
+                assertThat(leader.getCause()).isInstanceOf(AssertionError.class);
+            }
+        }
+        assertThat(failed).isEqualTo(CALLERS - 1);
+    }
+
+    // 모양만 다른 같은 URL로 동시에 요청한다
+    private List<Future<ParserResult>> parseConcurrently() {
+        List<Future<ParserResult>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            String url = i % 2 == 0 ? URL : URL + "?utm_source=" + i;
+            results.add(callers.submit(() -> parserService.parseUrl(url)));
+        }
+        return results;
+    }
+
+    private void awaitFollowers() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("parser.requests.coalesced").count() < CALLERS - 1) {
+            assertThat(System.nanoTime()).as("followers joined").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static class ExampleSiteParser implements SiteParser {
+
+        @Override
+        public String name() {
+            return "example";
+        }
+
+        @Override
+        public List<String> hostSuffixes() {
+            return List.of("jobs.example.com");
+        }
+
+        @Override
+        public BaseParser create(String html) {
+            return new GenericParser(html);
+        }
+    }
+}
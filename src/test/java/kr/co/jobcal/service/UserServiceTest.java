@@ -0,0 +1,53 @@
+package kr.co.jobcal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.jobcal.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = new UserService(
+        userRepository, mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class)
+    );
+
+    @Test
+    void keepsTheBaseWhenItIsFree() {
+        when(userRepository.findUserIdsByBase("kim", "kim!_%")).thenReturn(List.of("kim_1", "kim_2"));
+
+        assertThat(userService.ensureUniqueUserId("kim")).isEqualTo("kim");
+    }
+
+    @Test
+    void appendsOnePastTheLargestNumericSuffix() {
+        when(userRepository.findUserIdsByBase("kim", "kim!_%"))
+            .thenReturn(List.of("kim", "kim_1", "kim_7", "kim_abc", "kim_2x"));
+
+        assertThat(userService.ensureUniqueUserId("kim")).isEqualTo("kim_8");
+    }
+
+    @Test
+    void startsAtOneWhenOnlyTheBaseIsTaken() {
+        when(userRepository.findUserIdsByBase("kim", "kim!_%")).thenReturn(List.of("kim"));
+
+        assertThat(userService.ensureUniqueUserId("kim")).isEqualTo("kim_1");
+    }
+
+    @Test
+    void escapesLikeWildcardsInTheBase() {
+        when(userRepository.findUserIdsByBase("kim_lee", "kim!_lee!_%")).thenReturn(List.of("kim_lee", "kim_lee_3"));
+        when(userRepository.findUserIdsByBase("50%!", "50!%!!!_%")).thenReturn(List.of());
+
+        assertThat(userService.ensureUniqueUserId("kim_lee")).isEqualTo("kim_lee_4");
+        assertThat(userService.ensureUniqueUserId("50%!")).isEqualTo("50%!");
+        verify(userRepository).findUserIdsByBase("kim_lee", "kim!_lee!_%");
+        verify(userRepository).findUserIdsByBase("50%!", "50!%!!!_%");
+    }
+}
@@ -0,0 +1,66 @@
+package kr.co.jobcal.service.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class DateExtractorTest {
+
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void readsKoreanFullDates() {
+        DateExtractor.DateMatch match = DateExtractor.find("채용기간 2025년 1월 10일 ~ 2025년 3월 31일", REFERENCE);
+
+        assertThat(match.date()).isEqualTo(LocalDate.of(2025, 1, 10));
+        assertThat(match.kind()).isEqualTo(DateExtractor.Kind.EXACT);
+    }
+
+    @Test
+    void readsNumericDates() {
+        assertThat(DateExtractor.find("지원 마감 2025.03.31(월) 23:59", REFERENCE).date()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(DateExtractor.find("deadline 2025-4-5", REFERENCE).date()).isEqualTo(LocalDate.of(2025, 4, 5));
+        assertThat(DateExtractor.find("2025 04 05", REFERENCE).date()).isEqualTo(LocalDate.of(2025, 4, 5));
+    }
+
+    @Test
+    void prefersFullDatesOverYearlessOnes() {
+        DateExtractor.DateMatch match = DateExtractor.find("~3/20 까지, 최종 마감 2025.03.31", REFERENCE);
+
+        assertThat(match.date()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(match.kind()).isEqualTo(DateExtractor.Kind.EXACT);
+    }
+
+    @Test
+    void infersTheYearForKoreanMonthDay() {
+        DateExtractor.DateMatch match = DateExtractor.find("접수마감 4월 15일", REFERENCE);
+
+        assertThat(match.date()).isEqualTo(LocalDate.of(2025, 4, 15));
+        assertThat(match.kind()).isEqualTo(DateExtractor.Kind.YEAR_INFERRED);
+    }
+
+    @Test
+    void rollsYearlessDatesOverToNextYear() {
+        LocalDate lateDecember = LocalDate.of(2025, 12, 20);
+
+        assertThat(DateExtractor.find("잡캘｜백엔드 개발자 채용 (~1/5)", lateDecember).date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(DateExtractor.find("1월 5일 마감", lateDecember).date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(DateExtractor.find("12월 20일 마감", lateDecember).date()).isEqualTo(LocalDate.of(2025, 12, 20));
+    }
+
+    @Test
+    void reportsRollingPostingsWithoutADate() {
+        DateExtractor.DateMatch match = DateExtractor.find("상시 채용", REFERENCE);
+
+        assertThat(match.kind()).isEqualTo(DateExtractor.Kind.ROLLING);
+        assertThat(match.date()).isNull();
+    }
+
+    @Test
+    void ignoresInvalidDatesAndPlainText() {
+        assertThat(DateExtractor.find("2025.02.30", REFERENCE)).isNull();
+        assertThat(DateExtractor.find("서울특별시 강남구 테헤란로 123", REFERENCE)).isNull();
+        assertThat(DateExtractor.find(null, REFERENCE)).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package kr.co.jobcal.service.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class KeywordMatcherTest {
+
+    @Test
+    void matchesOverlappingAndNestedKeywords() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("마감", "지원마감", "근무지", "근무지역", "지역"));
+
+        long matched = matcher.match("지원마감 및 근무지역 안내");
+
+        assertThat(matched).isEqualTo(0b11111L);
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.match("ushers")).isEqualTo(bits(matcher, "he", "she", "hers"));
+        assertThat(matcher.match("ahishe")).isEqualTo(bits(matcher, "he", "she", "his"));
+        assertThat(matcher.match("hhhhh")).isZero();
+    }
+
+    @Test
+    void keywordsAreLowerCasedButTextIsNot() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Deadline"));
+
+        assertThat(matcher.indexOf("DEADLINE")).isZero();
+        assertThat(matcher.match("application deadline")).isEqualTo(1L);
+        assertThat(matcher.match("Application Deadline")).isZero();
+    }
+
+    @Test
+    void rejectsMoreThanSixtyFourKeywords() {
+        List<String> keywords = IntStream.range(0, 65).mapToObj(i -> "k" + i).toList();
+
+        assertThatThrownBy(() -> new KeywordMatcher(keywords)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void agreesWithContainsOnRandomText() {
+        List<String> keywords = List.of("ab", "abc", "bca", "c", "cab", "aaa", "bb");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        Random random = new Random(42);
+        for (int round = 0; round < 2000; round++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                text.append((char) ('a' + random.nextInt(3)));
+            }
+            assertThat(matcher.match(text)).as(text.toString()).isEqualTo(containsMask(keywords, text.toString()));
+        }
+    }
+
+    private static long bits(KeywordMatcher matcher, String... keywords) {
+        long mask = 0L;
+        for (String keyword : keywords) {
+            mask |= 1L << matcher.indexOf(keyword);
+        }
+        return mask;
+    }
+
+    private static long containsMask(List<String> keywords, String text) {
+        long mask = 0L;
+        for (int i = 0; i < keywords.size(); i++) {
+            if (text.contains(keywords.get(i))) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}